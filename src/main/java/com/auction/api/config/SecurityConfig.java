@@ -1,25 +1,41 @@
 package com.auction.api.config;
 
+import com.auction.api.security.AccessTokenFilter;
+import com.auction.api.security.AccessTokens;
+import com.auction.api.security.CachingAuthenticationProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.time.Duration;
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * Requests are authenticated one by one, by the access token issued on login or by Basic credentials
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager,
+                                                   AccessTokens accessTokens) throws Exception {
         http
+                .authenticationManager(authenticationManager)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new AccessTokenFilter(accessTokens), BasicAuthenticationFilter.class)
                 .csrf(AbstractHttpConfigurer::disable)
                 .headers(headers ->
                         headers
@@ -38,14 +54,28 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Basic credentials are sent with every request, so their BCrypt verification is cached for a short time
+     */
     @Bean
-    public AuthenticationManager authenticationManager(
+    public AuthenticationProvider authenticationProvider(
             UserDetailsService userDetailsService,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            @Value("${auction.security.credential-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${auction.security.credential-cache.max-entries:10000}") int cacheMaxEntries,
+            @Value("${auction.security.credential-cache.ttl-seconds:60}") long cacheTtlSeconds) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
 
+        if (!cacheEnabled) {
+            return authenticationProvider;
+        }
+        return new CachingAuthenticationProvider(authenticationProvider, cacheMaxEntries, Duration.ofSeconds(cacheTtlSeconds));
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(AuthenticationProvider authenticationProvider) {
         return new ProviderManager(authenticationProvider);
     }
 
@@ -0,0 +1,26 @@
+package com.auction.api.config;
+
+import com.auction.api.websocket.BidWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    public static final String BID_CHANNEL_PATH = "/v1/api/ws/bids";
+
+    private final BidWebSocketHandler bidWebSocketHandler;
+
+    /**
+     * The handshake request passes the security filters like any other request, which authenticate the channel
+     */
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(bidWebSocketHandler, BID_CHANNEL_PATH);
+    }
+}
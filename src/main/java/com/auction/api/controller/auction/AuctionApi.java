@@ -1,16 +1,24 @@
 package com.auction.api.controller.auction;
 
 import com.auction.api.Api;
+import com.auction.api.model.auction.AuctionEndingSoonResponse;
+import com.auction.api.model.auction.AuctionPriceUpdate;
 import com.auction.api.model.auction.AuctionRequest;
 import com.auction.api.model.auction.AuctionResponse;
+import com.auction.api.model.auction.AuctionSearchHit;
+import com.auction.api.model.auction.AuctionSearchRequest;
+import com.auction.api.model.auction.AuctionSliceResponse;
 import com.auction.api.model.auction.AuctionStatusResponse;
 import com.auction.api.model.auction.AuctionUpdateRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,7 +26,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @Api
 public interface AuctionApi {
@@ -37,29 +49,95 @@ public interface AuctionApi {
 
     @Operation(
             summary = "Get auction by ID",
-            description = "Fetches the auction by its unique identifier",
+            description = "Fetches the auction by its unique identifier. The response carries an ETag which changes with " +
+                    "every change of the auction, a request with a matching If-None-Match header is answered with 304.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Auction found", content = @Content(schema = @Schema(implementation = AuctionResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Auction not modified since the ETag in If-None-Match"),
                     @ApiResponse(responseCode = "400", description = "Invalid ID format"),
                     @ApiResponse(responseCode = "404", description = "Auction not found"),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error")
             }
     )
     @GetMapping("/{id}")
-    ResponseEntity<AuctionResponse> getAuctionById(@PathVariable Long id);
+    ResponseEntity<AuctionResponse> getAuctionById(@PathVariable Long id,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    @Operation(
+            summary = "Search auctions by keywords",
+            description = "Finds the auctions whose title or description contains every word of the query, ignoring case " +
+                    "and punctuation, best matches first. Words in the title rank higher than words in the description.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Matching auctions retrieved successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = AuctionSearchHit.class)))),
+                    @ApiResponse(responseCode = "400", description = "Query without words or invalid limit"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error")
+            }
+    )
+    @GetMapping("/search")
+    ResponseEntity<List<AuctionSearchHit>> searchAuctions(@RequestParam("q") String query,
+                                                          @RequestParam(defaultValue = "20") int limit);
+
+    @Operation(
+            summary = "Get auctions ending soon",
+            description = "Fetches the open auctions which end next, soonest first, with their current prices. " +
+                    "Served from memory, without querying the database.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Auctions ending soon retrieved successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = AuctionEndingSoonResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "Invalid limit"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error")
+            }
+    )
+    @GetMapping("/ending-soon")
+    ResponseEntity<List<AuctionEndingSoonResponse>> getAuctionsEndingSoon(@RequestParam(defaultValue = "10") int limit);
+
+    @Operation(
+            summary = "Stream auction price updates",
+            description = "Server-sent events named 'price' with the current price of the auction, followed by every change " +
+                    "until the auction is closed. Clients which can't keep up receive only the latest price.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stream opened", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = AuctionPriceUpdate.class))),
+                    @ApiResponse(responseCode = "404", description = "Auction not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error")
+            }
+    )
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamAuction(@PathVariable Long id);
 
     @Operation(
             summary = "Get all auctions",
-            description = "Fetches all auctions with pagination support",
+            description = "Fetches all auctions with pagination support, optionally filtered by status, expiration " +
+                    "window, current price range and title prefix, and sorted by ending soonest, highest price or newest",
             responses = {
                     @ApiResponse(responseCode = "200", description = "List of auctions retrieved successfully", content = @Content(schema = @Schema(implementation = AuctionStatusResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid filter or sort order"),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error")
             }
     )
     @GetMapping
     ResponseEntity<Page<AuctionStatusResponse>> getAllAuctions(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size);
+            @RequestParam(defaultValue = "10") int size,
+            @Valid @ParameterObject AuctionSearchRequest search);
+
+    @Operation(
+            summary = "Get auctions by cursor",
+            description = "Fetches the auctions in the order of their IDs, one slice at a time. Omit the cursor, or pass " +
+                    "an empty one, for the first slice and pass the nextCursor of a slice to fetch the one after it. " +
+                    "Unlike the paged listing, deep slices are as cheap as the first one and no count query is run " +
+                    "unless includeTotal is set. Slices are never filtered or sorted, passing a filter or sort order " +
+                    "along with a cursor is rejected.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Slice of auctions retrieved successfully", content = @Content(schema = @Schema(implementation = AuctionSliceResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or slice size, or a filter or sort order given"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error")
+            }
+    )
+    @GetMapping(params = "cursor")
+    ResponseEntity<AuctionSliceResponse> getAuctionsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @ParameterObject AuctionSearchRequest search);
 
     @Operation(
             summary = "Update auction",
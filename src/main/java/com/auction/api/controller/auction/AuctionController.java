@@ -1,10 +1,17 @@
 package com.auction.api.controller.auction;
 
+import com.auction.api.model.auction.AuctionEndingSoonResponse;
 import com.auction.api.model.auction.AuctionRequest;
 import com.auction.api.model.auction.AuctionResponse;
+import com.auction.api.model.auction.AuctionSearchHit;
+import com.auction.api.model.auction.AuctionSearchRequest;
+import com.auction.api.model.auction.AuctionSliceResponse;
 import com.auction.api.model.auction.AuctionStatusResponse;
 import com.auction.api.model.auction.AuctionUpdateRequest;
+import com.auction.service.AuctionEndingSoonService;
+import com.auction.service.AuctionSearchService;
 import com.auction.service.AuctionService;
+import com.auction.service.AuctionStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,9 +19,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/v1/api/auctions")
@@ -23,6 +32,9 @@ import java.net.URI;
 public class AuctionController implements AuctionApi {
 
     private final AuctionService auctionService;
+    private final AuctionStreamService auctionStreamService;
+    private final AuctionSearchService auctionSearchService;
+    private final AuctionEndingSoonService auctionEndingSoonService;
 
     public ResponseEntity<AuctionResponse> createAuction(AuctionRequest auctionRequest) {
          AuctionResponse createdAuction = auctionService.createAuction(auctionRequest);
@@ -34,21 +46,62 @@ public class AuctionController implements AuctionApi {
          return ResponseEntity.created(location).body(createdAuction);
     }
 
-    public ResponseEntity<AuctionResponse> getAuctionById(Long id) {
+    /**
+     * A conditional request costs a version lookup only, the auction is loaded and serialized once it changed
+     */
+    public ResponseEntity<AuctionResponse> getAuctionById(Long id, String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String eTag = auctionETag(id, auctionService.getAuctionVersion(id));
+            if (matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         AuctionResponse auction = auctionService.getAuctionById(id);
-        return new ResponseEntity<>(auction, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(auctionETag(id, auction.getVersion())).body(auction);
     }
 
-    public ResponseEntity<Page<AuctionStatusResponse>> getAllAuctions(int page, int size) {
+    public ResponseEntity<List<AuctionSearchHit>> searchAuctions(String query, int limit) {
+        return ResponseEntity.ok(auctionSearchService.search(query, limit));
+    }
+
+    public ResponseEntity<List<AuctionEndingSoonResponse>> getAuctionsEndingSoon(int limit) {
+        return ResponseEntity.ok(auctionEndingSoonService.getEndingSoon(limit));
+    }
+
+    public SseEmitter streamAuction(Long id) {
+        return auctionStreamService.subscribe(id);
+    }
+
+    public ResponseEntity<Page<AuctionStatusResponse>> getAllAuctions(int page, int size, AuctionSearchRequest search) {
 
-        Page<AuctionStatusResponse> auctionPage = auctionService.getAllAuctions(page, size);
+        Page<AuctionStatusResponse> auctionPage = auctionService.getAllAuctions(page, size, search);
         return ResponseEntity.ok(auctionPage);
     }
 
+    public ResponseEntity<AuctionSliceResponse> getAuctionsByCursor(String cursor, int size, boolean includeTotal,
+                                                                    AuctionSearchRequest search) {
+        return ResponseEntity.ok(auctionService.getAuctionsByCursor(cursor, size, includeTotal, search));
+    }
+
     public ResponseEntity<AuctionResponse> updateAuction(Long auctionId, AuctionUpdateRequest auctionUpdateRequest) {
         log.info("Update Auction with id {}, with values: {}", auctionId, auctionUpdateRequest);
         return ResponseEntity.ok().body(auctionService.updateAuction(auctionId, auctionUpdateRequest));
     }
-}
 
+    private static String auctionETag(Long auctionId, Long version) {
+        return "\"" + auctionId + "-" + (version != null ? version : 0L) + "\"";
+    }
 
+    /**
+     * Weak comparison, as If-None-Match calls for
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,34 +1,78 @@
 package com.auction.api.controller.bid;
 
 import com.auction.api.Api;
+import com.auction.api.model.bid.BidHistoryResponse;
 import com.auction.api.model.bid.BidRequest;
 import com.auction.api.model.bid.BidResponse;
+import com.auction.api.model.bid.BidTicketResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Api
 public interface BidApi {
 
     @Operation(
             summary = "Place a bid",
-            description = "This endpoint is used to place a bid on an auction",
+            description = "This endpoint is used to place a bid on an auction. A request retried with the same " +
+                    "Idempotency-Key gets the response of the first one instead of placing the bid again. " +
+                    "When asynchronous bidding is enabled, the bid is queued and a ticket to poll for its outcome is returned",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Bid placed successfully", content = @Content(schema = @Schema(implementation = BidResponse.class))),
+                    @ApiResponse(responseCode = "202", description = "Bid queued", content = @Content(schema = @Schema(implementation = BidTicketResponse.class))),
                     @ApiResponse(responseCode = "400", description = "Invalid input data"),
                     @ApiResponse(responseCode = "404", description = "Auction not found"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different bid"),
+                    @ApiResponse(responseCode = "429", description = "Too many bids queued, retry after the time given in Retry-After"),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error")
             }
     )
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    ResponseEntity<BidResponse> placeBid(Authentication authentication,
-                                         @PathVariable Long auctionId,
-                                         @RequestBody BidRequest bidRequest);
+    ResponseEntity<?> placeBid(Authentication authentication,
+                               @PathVariable Long auctionId,
+                               @RequestBody BidRequest bidRequest,
+                               @Parameter(description = "Client generated key identifying the bid across retries")
+                               @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey);
+
+    @Operation(
+            summary = "Get bid history",
+            description = "Fetches the bids of an auction, newest first. The next page is fetched by passing " +
+                    "the nextCursor of the current page as 'before'",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Bids retrieved successfully", content = @Content(schema = @Schema(implementation = BidHistoryResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid page size"),
+                    @ApiResponse(responseCode = "404", description = "Auction not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error")
+            }
+    )
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<BidHistoryResponse> getBidHistory(@PathVariable Long auctionId,
+                                                     @Parameter(description = "Only bids placed before the bid with this ID")
+                                                     @RequestParam(required = false) Long before,
+                                                     @RequestParam(defaultValue = "20") int size);
+
+    @Operation(
+            summary = "Get a bid ticket",
+            description = "Fetches the outcome of a bid queued by asynchronous bidding",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Bid ticket found", content = @Content(schema = @Schema(implementation = BidTicketResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Bid ticket not found or expired"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error")
+            }
+    )
+    @GetMapping(value = "/tickets/{ticketId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<BidTicketResponse> getBidTicket(Authentication authentication,
+                                                   @PathVariable Long auctionId,
+                                                   @PathVariable String ticketId);
 }
\ No newline at end of file
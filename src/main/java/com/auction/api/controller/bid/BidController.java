@@ -1,8 +1,12 @@
 package com.auction.api.controller.bid;
 
+import com.auction.api.model.bid.BidHistoryResponse;
 import com.auction.api.model.bid.BidRequest;
 import com.auction.api.model.bid.BidResponse;
+import com.auction.api.model.bid.BidTicketResponse;
+import com.auction.service.BidIdempotencyService;
 import com.auction.service.BidService;
+import com.auction.service.BidTicketService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -18,12 +22,25 @@ import java.net.URI;
 public class BidController implements BidApi {
 
     private final BidService bidService;
+    private final BidIdempotencyService bidIdempotencyService;
+    private final BidTicketService bidTicketService;
 
     @Override
-    public ResponseEntity<BidResponse> placeBid(Authentication authentication,
-                                                Long auctionId,
-                                                BidRequest bidRequest) {
-        BidResponse createdBid = bidService.placeBid(authentication, auctionId, bidRequest);
+    public ResponseEntity<?> placeBid(Authentication authentication,
+                                      Long auctionId,
+                                      BidRequest bidRequest,
+                                      String idempotencyKey) {
+        if (bidTicketService.isEnabled()) {
+            BidTicketResponse ticket = bidTicketService.submitBid(authentication, auctionId, bidRequest, idempotencyKey);
+            URI location = ServletUriComponentsBuilder
+                    .fromCurrentRequest()
+                    .path("/tickets/{ticketId}")
+                    .buildAndExpand(ticket.getTicketId())
+                    .toUri();
+            return ResponseEntity.accepted().location(location).body(ticket);
+        }
+
+        BidResponse createdBid = bidIdempotencyService.placeBid(authentication, auctionId, bidRequest, idempotencyKey);
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
                 .path("/{id}")
@@ -31,4 +48,14 @@ public class BidController implements BidApi {
                 .toUri();
         return ResponseEntity.created(location).body(createdBid);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ResponseEntity<BidHistoryResponse> getBidHistory(Long auctionId, Long before, int size) {
+        return ResponseEntity.ok(bidService.getBidHistory(auctionId, before, size));
+    }
+
+    @Override
+    public ResponseEntity<BidTicketResponse> getBidTicket(Authentication authentication, Long auctionId, String ticketId) {
+        return ResponseEntity.ok(bidTicketService.getTicket(authentication, auctionId, ticketId));
+    }
+}
@@ -2,7 +2,10 @@ package com.auction.api.controller.login;
 
 import com.auction.api.Api;
 import com.auction.api.model.LoginRequest;
+import com.auction.api.model.LoginResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,14 +16,15 @@ public interface LoginApi {
 
     @Operation(
             summary = "Login user",
-            description = "This endpoint is used to authenticate a user and start a session",
+            description = "This endpoint is used to authenticate a user. The returned access token authenticates " +
+                    "further requests as 'Authorization: Bearer <token>' until it expires, instead of Basic credentials.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Login successful"),
+                    @ApiResponse(responseCode = "200", description = "Login successful", content = @Content(schema = @Schema(implementation = LoginResponse.class))),
                     @ApiResponse(responseCode = "400", description = "Invalid login request, missing or invalid credentials"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized, invalid username or password"),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error")
             }
     )
     @PostMapping("/login")
-    ResponseEntity<Void> login(@RequestBody LoginRequest loginRequest);
+    ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.auction.api.controller.login;
 
 import com.auction.api.model.LoginRequest;
+import com.auction.api.model.LoginResponse;
 import com.auction.service.LoginService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,9 +15,8 @@ public class LoginController implements LoginApi {
 
     private final LoginService loginService;
 
-    public ResponseEntity<Void> login(LoginRequest loginRequest) {
-        loginService.login(loginRequest);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<LoginResponse> login(LoginRequest loginRequest) {
+        return ResponseEntity.ok(loginService.login(loginRequest));
     }
 
 }
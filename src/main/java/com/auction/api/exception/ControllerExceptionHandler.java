@@ -7,6 +7,8 @@ import com.auction.exception.AuctionModificationException;
 import com.auction.exception.AuctionTimeExpiredException;
 import com.auction.exception.AuthenticationException;
 import com.auction.exception.BidCreationException;
+import com.auction.exception.BidQueueFullException;
+import com.auction.exception.IdempotencyKeyReuseException;
 import com.auction.exception.InvalidBidException;
 import com.auction.exception.InvalidCredentialsException;
 import com.auction.exception.InvalidRoleException;
@@ -15,8 +17,10 @@ import com.auction.exception.UserConflictException;
 import com.auction.exception.UserCreationException;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.PropertyValueException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -87,6 +91,22 @@ public class ControllerExceptionHandler {
 		return new ResponseEntity<>(message.toString(), HttpStatus.BAD_REQUEST);
 	}
 
+	/**
+	 * Bodies Jackson can't read are the client's fault. When a value was rejected by the type it is read into,
+	 * like an amount with more than two decimal places, the client gets the reason.
+	 */
+	@ExceptionHandler(HttpMessageNotReadableException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+		log.warn("HttpMessageNotReadableException received, message: {}", e.getMessage());
+		for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof IllegalArgumentException) {
+				return new ResponseEntity<>(new ErrorResponse(cause.getMessage()), HttpStatus.BAD_REQUEST);
+			}
+		}
+		return new ResponseEntity<>(new ErrorResponse("Malformed request body"), HttpStatus.BAD_REQUEST);
+	}
+
 	@ExceptionHandler(UserConflictException.class)
 	@ResponseStatus(HttpStatus.CONFLICT)
 	public ResponseEntity<ErrorResponse> handleUserConflictException(UserConflictException e) {
@@ -94,6 +114,22 @@ public class ControllerExceptionHandler {
 		return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.CONFLICT);
 	}
 
+	@ExceptionHandler(IdempotencyKeyReuseException.class)
+	@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+	public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException e) {
+		log.warn("IdempotencyKeyReuseException received, message: {}", e.getMessage());
+		return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.UNPROCESSABLE_ENTITY);
+	}
+
+	@ExceptionHandler(BidQueueFullException.class)
+	@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+	public ResponseEntity<ErrorResponse> handleBidQueueFullException(BidQueueFullException e) {
+		log.warn("BidQueueFullException received, message: {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.body(new ErrorResponse(e.getMessage()));
+	}
+
 	@ExceptionHandler(AccessDeniedException.class)
 	@ResponseStatus(HttpStatus.FORBIDDEN)
 	public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException e) {
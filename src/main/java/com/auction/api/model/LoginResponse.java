@@ -0,0 +1,12 @@
+package com.auction.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Login response model")
+public record LoginResponse(
+        @Schema(description = "Signed access token, sent as 'Authorization: Bearer <token>'", example = "MXwxNzM2NzAwMDAwMDAwfFJPTEVfVVNFUnxqb2huX2RvZQ.5kq1C8Yd0m2Nf3x7lqUeZQvP4m0bq2mWm0cQm2b6k9c")
+        String accessToken,
+        @Schema(description = "Type of the token", example = "Bearer")
+        String tokenType,
+        @Schema(description = "Seconds until the token expires", example = "3600")
+        long expiresIn) {}
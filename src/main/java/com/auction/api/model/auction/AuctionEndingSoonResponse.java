@@ -0,0 +1,24 @@
+package com.auction.api.model.auction;
+
+import com.auction.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Schema(description = "Open auction ending soon")
+public class AuctionEndingSoonResponse {
+
+    @Schema(description = "ID of the auction", example = "111")
+    private Long auctionId;
+
+    @Schema(description = "Title of the auction", example = "Antique Vase")
+    private String title;
+
+    @Schema(description = "Expiration time of the auction", example = "2025-01-12T16:34:26.666")
+    private LocalDateTime expirationTime;
+
+    @Schema(description = "Highest bid of the auction, or its starting price while there is none", type = "number", example = "250.00")
+    private Money currentPrice;
+}
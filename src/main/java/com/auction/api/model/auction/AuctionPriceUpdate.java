@@ -0,0 +1,22 @@
+package com.auction.api.model.auction;
+
+import com.auction.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Price update of an auction, sent to the subscribers of its stream")
+public class AuctionPriceUpdate {
+
+    @Schema(description = "ID of the auction", example = "111")
+    private Long auctionId;
+
+    @Schema(description = "Highest bid of the auction", type = "number", example = "250.00")
+    private Money highestBid;
+
+    @Schema(description = "Username of the highest bidder of the auction", example = "john_doe")
+    private String highestBidUsername;
+
+    @Schema(description = "Status of the auction", example = "OPEN")
+    private String status;
+}
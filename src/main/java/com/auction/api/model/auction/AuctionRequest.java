@@ -1,9 +1,11 @@
 package com.auction.api.model.auction;
 
+import com.auction.api.validation.PositiveMoney;
+import com.auction.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 public class AuctionRequest {
 
     @NotBlank(message = "Title is mandatory.")
+    @Size(max = 255, message = "Title must not be longer than 255 characters.")
     @Schema(description = "Title of the auction", example = "Antique Vase")
     private String title;
 
@@ -21,9 +24,9 @@ public class AuctionRequest {
     private String description;
 
     @NotNull(message = "Starting price is mandatory.")
-    @Positive(message = "Starting price must be greater than zero.")
-    @Schema(description = "Starting price of the auction", example = "150.00")
-    private Double startingPrice;
+    @PositiveMoney(message = "Starting price must be greater than zero.")
+    @Schema(description = "Starting price of the auction", type = "number", example = "150.00")
+    private Money startingPrice;
 
     @NotNull(message = "Expiration time is mandatory.")
     @Schema(description = "Expiration time of the auction", example = "2025-01-12T16:34:26.666")
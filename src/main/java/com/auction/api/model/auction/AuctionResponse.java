@@ -1,5 +1,7 @@
 package com.auction.api.model.auction;
 
+import com.auction.model.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -23,8 +25,8 @@ public class AuctionResponse extends AuctionRequest {
     @Schema(description = "Status of the auction", example = "OPEN")
     private String status;
 
-    @Schema(description = "Highest bid of the auction", example = "250.00")
-    private Double highestBid;
+    @Schema(description = "Highest bid of the auction", type = "number", example = "250.00")
+    private Money highestBid;
 
     @Schema(description = "Username of the highest bidder of the auction", example = "john_doe")
     private String highestBidUsername;
@@ -34,5 +36,9 @@ public class AuctionResponse extends AuctionRequest {
 
     @Schema(description = "Timestamp of the last update to the auction", example = "2025-01-05T12:30:00.000")
     private LocalDateTime updatedAt;
-}
 
+    // Exposed as the ETag of the auction, not as part of the body
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
+}
@@ -0,0 +1,19 @@
+package com.auction.api.model.auction;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Auction found by a keyword search")
+public class AuctionSearchHit {
+
+    @Schema(description = "ID of the auction", example = "111")
+    private Long auctionId;
+
+    @Schema(description = "Title of the auction", example = "Antique Vase")
+    private String title;
+}
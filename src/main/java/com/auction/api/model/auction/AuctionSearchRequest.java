@@ -0,0 +1,40 @@
+package com.auction.api.model.auction;
+
+import com.auction.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@Schema(description = "Filters and sort order of the auction listing, all of them optional")
+public class AuctionSearchRequest {
+
+    @Pattern(regexp = "OPEN|CLOSED", message = "Status must be either 'OPEN' or 'CLOSED'.")
+    @Schema(description = "Status of the auctions", example = "OPEN")
+    private String status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Auctions expiring at or after this time", example = "2025-01-12T16:00:00")
+    private LocalDateTime expiresAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Auctions expiring before this time", example = "2025-01-12T17:00:00")
+    private LocalDateTime expiresBefore;
+
+    @Schema(description = "Lowest current price, the highest bid or the starting price while there is none", type = "number", example = "100.00")
+    private Money minPrice;
+
+    @Schema(description = "Highest current price, the highest bid or the starting price while there is none", type = "number", example = "500.00")
+    private Money maxPrice;
+
+    @Size(max = 255, message = "Title prefix must not be longer than 255 characters.")
+    @Schema(description = "Case-sensitive prefix of the auction title", example = "Antique")
+    private String titlePrefix;
+
+    @Schema(description = "Sort order, by auction ID if not given", example = "ENDING_SOON")
+    private AuctionSort sort;
+}
@@ -0,0 +1,27 @@
+package com.auction.api.model.auction;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(value = Include.NON_NULL)
+@Schema(description = "Slice of the auction listing, continued by passing nextCursor as 'cursor'")
+public class AuctionSliceResponse {
+
+    @Schema(description = "Auctions of the slice")
+    private List<AuctionStatusResponse> auctions;
+
+    @Schema(description = "Value of the 'cursor' parameter fetching the next slice, absent on the last slice", example = "aWQ6MTEx")
+    private String nextCursor;
+
+    @Schema(description = "Number of all auctions, only present when requested with includeTotal", example = "1250")
+    private Long totalElements;
+}
@@ -0,0 +1,8 @@
+package com.auction.api.model.auction;
+
+public enum AuctionSort {
+
+    ENDING_SOON,
+    HIGHEST_PRICE,
+    NEWEST
+}
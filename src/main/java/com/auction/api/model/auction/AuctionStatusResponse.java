@@ -1,5 +1,6 @@
 package com.auction.api.model.auction;
 
+import com.auction.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
@@ -10,11 +11,14 @@ import lombok.ToString;
 @Schema(description = "Auction status model")
 public class AuctionStatusResponse {
 
+    @Schema(description = "ID of the auction", example = "111")
+    private Long auctionId;
+
     @Schema(description = "Title of the auction", example = "Antique Vase")
     private String title;
 
-    @Schema(description = "Highest bid of the auction", example = "250.00")
-    private Double highestBid;
+    @Schema(description = "Highest bid of the auction", type = "number", example = "250.00")
+    private Money highestBid;
 
     @Pattern(regexp = "OPEN|CLOSED", message = "Status must be either 'OPEN' or 'CLOSED'.")
     @Schema(description = "Status of the auction", example = "CLOSED")
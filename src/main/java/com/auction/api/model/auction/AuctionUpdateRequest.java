@@ -1,8 +1,10 @@
 package com.auction.api.model.auction;
 
+import com.auction.api.validation.PositiveMoney;
+import com.auction.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Pattern;
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.ToString;
 
@@ -13,15 +15,16 @@ import java.time.LocalDateTime;
 @Schema(description = "Auction request update model")
 public class AuctionUpdateRequest {
 
+    @Size(max = 255, message = "Title must not be longer than 255 characters.")
     @Schema(description = "Title of the auction", example = "Antique Vase")
     private String title;
 
     @Schema(description = "Description of the auction", example = "An ancient porcelain vase dating back to the Ming Dynasty.")
     private String description;
 
-    @Positive(message = "Starting price must be greater than zero.")
-    @Schema(description = "Starting price of the auction", example = "150.00")
-    private Double startingPrice;
+    @PositiveMoney(message = "Starting price must be greater than zero.")
+    @Schema(description = "Starting price of the auction", type = "number", example = "150.00")
+    private Money startingPrice;
 
     @Schema(description = "Expiration time of the auction", example = "2025-01-12T16:34:26.666")
     private LocalDateTime expirationTime;
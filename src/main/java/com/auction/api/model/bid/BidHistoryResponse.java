@@ -0,0 +1,24 @@
+package com.auction.api.model.bid;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(value = Include.NON_NULL)
+@Schema(description = "Page of the bid history of an auction, newest bids first")
+public class BidHistoryResponse {
+
+    @Schema(description = "Bids of the page")
+    private List<BidResponse> bids;
+
+    @Schema(description = "Value of the 'before' parameter fetching the next page, absent on the last page", example = "87")
+    private Long nextCursor;
+}
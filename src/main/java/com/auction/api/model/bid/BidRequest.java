@@ -1,7 +1,8 @@
 package com.auction.api.model.bid;
 
+import com.auction.api.validation.PositiveMoney;
+import com.auction.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
@@ -10,7 +11,7 @@ import lombok.Data;
 public class BidRequest {
 
     @NotNull(message = "Bid amount is mandatory.")
-    @DecimalMin(value = "0.01", message = "Bid amount must be greater than zero.")
-    @Schema(description = "Amount of the bid", example = "250.00")
-    private Double amount;
+    @PositiveMoney(message = "Bid amount must be greater than zero.")
+    @Schema(description = "Amount of the bid", type = "number", example = "250.00")
+    private Money amount;
 }
@@ -0,0 +1,33 @@
+package com.auction.api.model.bid;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@JsonInclude(value = Include.NON_EMPTY)
+@Schema(description = "Bid ticket response model")
+public class BidTicketResponse {
+
+    @Schema(description = "ID of the ticket", example = "3f2c1d8e-6a0b-4c36-9f5e-2d7b8a1c4e90")
+    private String ticketId;
+
+    @Schema(description = "ID of the auction", example = "9")
+    private Long auctionId;
+
+    @Schema(description = "Outcome of the bid", example = "PENDING")
+    private Status status;
+
+    @Schema(description = "Placed bid, once the ticket is accepted")
+    private BidResponse bid;
+
+    @Schema(description = "Reason of the rejection, once the ticket is rejected", example = "Bid must be higher than the current highest bid")
+    private String message;
+
+    public enum Status {
+        PENDING,
+        ACCEPTED,
+        REJECTED
+    }
+}
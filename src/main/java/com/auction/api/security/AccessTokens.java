@@ -0,0 +1,115 @@
+package com.auction.api.security;
+
+import com.auction.model.UserDetailModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and verifies self-contained access tokens, so that a request carrying one is authenticated without reading
+ * the user or checking a password. A token is {@code <payload>.<signature>}, both base64url encoded: the payload is
+ * {@code userId|expiresAtMillis|authorities|username} and the signature its HMAC-SHA256.
+ * <p>
+ * Without a configured secret a random one is used, so tokens are valid only in the process which issued them.
+ */
+@Component
+@Slf4j
+public class AccessTokens {
+
+    public static final String TOKEN_TYPE = "Bearer";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    @Autowired
+    public AccessTokens(@Value("${auction.security.token.secret:}") String secret,
+                        @Value("${auction.security.token.ttl-minutes:60}") long ttlMinutes) {
+        this(secret.isEmpty() ? randomSecret() : Base64.getDecoder().decode(secret), Duration.ofMinutes(ttlMinutes));
+        if (secret.isEmpty()) {
+            log.warn("No auction.security.token.secret configured, access tokens are valid in this process only");
+        }
+    }
+
+    AccessTokens(byte[] secret, Duration ttl) {
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public String issue(UserDetailModel user) {
+        String authorities = user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        String payload = user.getUserId() + "|" + (System.currentTimeMillis() + ttl.toMillis()) + "|"
+                + authorities + "|" + user.getUsername();
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    /**
+     * @return the user the token was issued to, or nothing if the token is malformed, forged or expired
+     */
+    public Optional<UserDetailModel> verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, separator);
+        try {
+            if (!MessageDigest.isEqual(sign(encodedPayload), DECODER.decode(token.substring(separator + 1)))) {
+                return Optional.empty();
+            }
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|", 4);
+            if (fields.length != 4 || Long.parseLong(fields[1]) <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            List<GrantedAuthority> authorities = Arrays.stream(fields[2].split(","))
+                    .filter(authority -> !authority.isEmpty())
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                    .toList();
+            return Optional.of(new UserDetailModel(Long.valueOf(fields[0]), fields[3], authorities));
+        } catch (IllegalArgumentException e) {
+            // Broken base64 or numbers, NumberFormatException is an IllegalArgumentException as well
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
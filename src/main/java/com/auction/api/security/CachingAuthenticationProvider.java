@@ -0,0 +1,92 @@
+package com.auction.api.security;
+
+import com.auction.engine.ReadThroughCache;
+import com.auction.event.UserCredentialsChangedEvent;
+import com.auction.model.UserDetailModel;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers successful verifications of username and password for a short time, so that clients sending the same
+ * credentials with every request pay for the BCrypt verification of the delegate once per TTL instead of every time.
+ * Failed verifications are never remembered and concurrent first requests share a single verification.
+ * <p>
+ * Verifications are cached under an HMAC of username and password, keyed with a random key which never leaves the
+ * process, so neither the password nor a hash which could be attacked offline is kept. Setting the password of a user
+ * moves the user to a new generation, which is part of the HMAC, making all earlier verifications unreachable.
+ * The cached principal is a copy of the user without the password hash.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final ReadThroughCache<String, Authentication> verified;
+    private final SecretKeySpec key;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, int maxEntries, Duration ttl) {
+        this.delegate = delegate;
+        this.verified = new ReadThroughCache<>(maxEntries, ttl);
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        if (!(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+        Authentication result = verified.get(verificationKey(authentication.getName(), password),
+                ignored -> withoutCredentials(delegate.authenticate(authentication)));
+        // The manager sets the details of the request on the returned authentication, so every request gets its own
+        return withoutCredentials(result);
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        generations.merge(event.username(), 1L, Long::sum);
+    }
+
+    private String verificationKey(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            String input = username + '\0' + generations.getOrDefault(username, 0L) + '\0' + password;
+            return Base64.getEncoder().encodeToString(mac.doFinal(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static Authentication withoutCredentials(Authentication authentication) {
+        return UsernamePasswordAuthenticationToken.authenticated(withoutPassword(authentication.getPrincipal()), null,
+                authentication.getAuthorities());
+    }
+
+    private static Object withoutPassword(Object principal) {
+        if (principal instanceof UserDetailModel user && user.getPassword() != null) {
+            return new UserDetailModel(user.getUserId(), user.getUsername(), List.copyOf(user.getAuthorities()));
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,13 @@
+package com.auction.api.validation;
+
+import com.auction.model.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class PositiveMoneyValidator implements ConstraintValidator<PositiveMoney, Money> {
+
+    @Override
+    public boolean isValid(Money money, ConstraintValidatorContext context) {
+        return money == null || money.isPositive();
+    }
+}
@@ -0,0 +1,15 @@
+package com.auction.api.websocket;
+
+import com.auction.model.Money;
+
+/**
+ * Command sent by a client of the bid channel, see {@link BidFrames} for its wire format
+ */
+public record BidCommand(Type type, Long auctionId, Money amount, String ref) {
+
+    public enum Type {
+        BID,
+        WATCH,
+        UNWATCH
+    }
+}
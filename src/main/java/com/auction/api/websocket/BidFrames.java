@@ -0,0 +1,98 @@
+package com.auction.api.websocket;
+
+import com.auction.api.model.auction.AuctionPriceUpdate;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.model.Money;
+
+/**
+ * Wire format of the bid channel: one frame per text message, fields separated by single spaces.
+ * <pre>
+ * client: BID &lt;auctionId&gt; &lt;amount&gt; [&lt;ref&gt;]     places a bid, ref is echoed in the answer
+ *         WATCH &lt;auctionId&gt;                    subscribes to price updates of an auction
+ *         UNWATCH &lt;auctionId&gt;
+ * server: ACCEPTED &lt;ref&gt; &lt;auctionId&gt; &lt;bidId&gt; &lt;amount&gt;
+ *         REJECTED &lt;ref&gt; &lt;auctionId&gt; &lt;reason&gt;
+ *         PRICE &lt;auctionId&gt; &lt;status&gt; &lt;amount&gt; &lt;username&gt;   amount and username are - without bids
+ *         OUTBID &lt;auctionId&gt; &lt;amount&gt;               the highest bid of the client was beaten
+ *         ERROR &lt;reason&gt;
+ * </pre>
+ */
+public final class BidFrames {
+
+    private static final String NONE = "-";
+
+    private BidFrames() {
+    }
+
+    public static BidCommand parse(String frame) {
+        String[] fields = frame.trim().split(" ");
+        BidCommand.Type type;
+        try {
+            type = BidCommand.Type.valueOf(fields[0]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown command " + fields[0]);
+        }
+        return switch (type) {
+            case BID -> {
+                requireFields(fields, 3, 4);
+                Money amount = parseAmount(fields[2]);
+                yield new BidCommand(type, parseAuctionId(fields[1]), amount, fields.length == 4 ? fields[3] : NONE);
+            }
+            case WATCH, UNWATCH -> {
+                requireFields(fields, 2, 2);
+                yield new BidCommand(type, parseAuctionId(fields[1]), null, NONE);
+            }
+        };
+    }
+
+    public static String accepted(String ref, BidResponse bid) {
+        return String.join(" ", "ACCEPTED", ref, String.valueOf(bid.getAuctionId()), String.valueOf(bid.getBidId()),
+                bid.getAmount().toString());
+    }
+
+    public static String rejected(String ref, Long auctionId, String reason) {
+        return String.join(" ", "REJECTED", ref, String.valueOf(auctionId), reason);
+    }
+
+    public static String price(AuctionPriceUpdate update) {
+        return String.join(" ", "PRICE", String.valueOf(update.getAuctionId()), update.getStatus(),
+                update.getHighestBid() != null ? update.getHighestBid().toString() : NONE,
+                update.getHighestBidUsername() != null ? update.getHighestBidUsername() : NONE);
+    }
+
+    public static String outbid(Long auctionId, Money amount) {
+        return String.join(" ", "OUTBID", String.valueOf(auctionId), amount.toString());
+    }
+
+    public static String error(String reason) {
+        return "ERROR " + reason;
+    }
+
+    private static void requireFields(String[] fields, int min, int max) {
+        if (fields.length < min || fields.length > max) {
+            throw new IllegalArgumentException("Malformed " + fields[0] + " frame");
+        }
+    }
+
+    private static Long parseAuctionId(String field) {
+        try {
+            return Long.valueOf(field);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid auction id " + field);
+        }
+    }
+
+    private static Money parseAmount(String field) {
+        Money amount;
+        try {
+            amount = Money.of(field);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException as well
+            throw new IllegalArgumentException("Invalid amount " + field);
+        }
+        if (!amount.isPositive()) {
+            throw new IllegalArgumentException("Bid amount must be greater than zero.");
+        }
+        return amount;
+    }
+}
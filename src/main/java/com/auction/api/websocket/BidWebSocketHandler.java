@@ -0,0 +1,178 @@
+package com.auction.api.websocket;
+
+import com.auction.api.model.auction.AuctionPriceUpdate;
+import com.auction.api.model.bid.BidRequest;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.engine.CoalescingBroadcaster;
+import com.auction.exception.AuctionClosedException;
+import com.auction.exception.AuctionTimeExpiredException;
+import com.auction.exception.InvalidBidException;
+import com.auction.exception.ResourceNotFoundException;
+import com.auction.model.Money;
+import com.auction.service.AuctionStreamService;
+import com.auction.service.BidService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bid channel for clients placing many bids. The client is authenticated once, by the security filters
+ * on the handshake request, and every bid afterwards is a single text frame placed through {@link BidService}.
+ * <p>
+ * Bidding on an auction watches it, so the same connection receives its price updates and an OUTBID frame
+ * once the highest bid of the client is beaten. Price updates share the broadcaster of the auction streams.
+ * A price update lower than the highest bid the channel already sent or accepted is late and dropped,
+ * so it can't report an outbid for a client which is still leading.
+ */
+@Component
+@Slf4j
+public class BidWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CHANNEL_ATTRIBUTE = BidChannel.class.getName();
+
+    private final BidService bidService;
+    private final AuctionStreamService auctionStreamService;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimitBytes;
+
+    public BidWebSocketHandler(BidService bidService, AuctionStreamService auctionStreamService,
+                               @Value("${auction.websocket.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+                               @Value("${auction.websocket.buffer-size-limit-kb:64}") int bufferSizeLimitKb) {
+        this.bidService = bidService;
+        this.auctionStreamService = auctionStreamService;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimitBytes = bufferSizeLimitKb * 1024;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        if (!(session.getPrincipal() instanceof Authentication authentication)) {
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        // Price updates are sent by the broadcaster threads while answers are sent by this one
+        WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, bufferSizeLimitBytes);
+        session.getAttributes().put(CHANNEL_ATTRIBUTE, new BidChannel(authentication, concurrentSession));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        BidChannel channel = (BidChannel) session.getAttributes().get(CHANNEL_ATTRIBUTE);
+        BidCommand command;
+        try {
+            command = BidFrames.parse(message.getPayload());
+        } catch (IllegalArgumentException e) {
+            channel.send(BidFrames.error(e.getMessage()));
+            return;
+        }
+
+        switch (command.type()) {
+            case BID -> placeBid(channel, command);
+            case WATCH -> watch(channel, command.auctionId());
+            case UNWATCH -> channel.unwatch(command.auctionId());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        BidChannel channel = (BidChannel) session.getAttributes().remove(CHANNEL_ATTRIBUTE);
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void placeBid(BidChannel channel, BidCommand command) throws IOException {
+        BidRequest bidRequest = new BidRequest();
+        bidRequest.setAmount(command.amount());
+
+        BidResponse bid;
+        try {
+            bid = bidService.placeBid(channel.authentication, command.auctionId(), bidRequest);
+        } catch (InvalidBidException | AuctionClosedException | AuctionTimeExpiredException | ResourceNotFoundException e) {
+            channel.send(BidFrames.rejected(command.ref(), command.auctionId(), e.getMessage()));
+            return;
+        } catch (RuntimeException e) {
+            log.error("Failed to place bid on auction {} over the bid channel", command.auctionId(), e);
+            channel.send(BidFrames.rejected(command.ref(), command.auctionId(), "Bid could not be placed"));
+            return;
+        }
+        channel.leading.add(command.auctionId());
+        channel.raisePrice(command.auctionId(), bid.getAmount());
+        channel.send(BidFrames.accepted(command.ref(), bid));
+        watch(channel, command.auctionId());
+    }
+
+    private void watch(BidChannel channel, Long auctionId) throws IOException {
+        if (channel.watched.containsKey(auctionId)) {
+            return;
+        }
+        try {
+            channel.watched.put(auctionId, auctionStreamService.subscribe(auctionId, channel::onPriceUpdate));
+        } catch (ResourceNotFoundException e) {
+            channel.send(BidFrames.error(e.getMessage()));
+        }
+    }
+
+    private static final class BidChannel {
+
+        private final Authentication authentication;
+        private final WebSocketSession session;
+        private final Map<Long, CoalescingBroadcaster<Long, AuctionPriceUpdate>.Subscription> watched = new ConcurrentHashMap<>();
+        // Auctions in which the client placed the highest bid, as far as this channel knows
+        private final Set<Long> leading = ConcurrentHashMap.newKeySet();
+        // Highest bid of every auction as far as this channel knows, from price updates sent and bids accepted
+        private final Map<Long, Money> prices = new ConcurrentHashMap<>();
+
+        private BidChannel(Authentication authentication, WebSocketSession session) {
+            this.authentication = authentication;
+            this.session = session;
+        }
+
+        private void send(String frame) throws IOException {
+            session.sendMessage(new TextMessage(frame));
+        }
+
+        private void onPriceUpdate(AuctionPriceUpdate update) throws IOException {
+            if (update.getHighestBid() != null
+                    && raisePrice(update.getAuctionId(), update.getHighestBid()).compareTo(update.getHighestBid()) > 0) {
+                return;
+            }
+            send(BidFrames.price(update));
+            if (authentication.getName().equals(update.getHighestBidUsername())) {
+                leading.add(update.getAuctionId());
+            } else if (update.getHighestBid() != null && leading.remove(update.getAuctionId())) {
+                send(BidFrames.outbid(update.getAuctionId(), update.getHighestBid()));
+            }
+        }
+
+        /**
+         * @return the highest bid of the auction known to the channel, at least the given one
+         */
+        private Money raisePrice(Long auctionId, Money highestBid) {
+            return prices.merge(auctionId, highestBid, (known, offered) -> known.compareTo(offered) >= 0 ? known : offered);
+        }
+
+        private void unwatch(Long auctionId) {
+            CoalescingBroadcaster<Long, AuctionPriceUpdate>.Subscription subscription = watched.remove(auctionId);
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        private void close() {
+            watched.values().forEach(subscription -> subscription.cancel());
+            watched.clear();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.auction.batch;
+
+import com.auction.engine.AuctionBulkCloser;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job closing the open auctions expired before its closeBefore parameter. The expired auctions are split into
+ * auction_id ranges which are closed in parallel, chunk by chunk, every chunk committing together with the
+ * position of its reader, so a restarted job continues after the last committed chunk of every range.
+ */
+@Configuration
+public class AuctionCloseJobConfig {
+
+    public static final String JOB_NAME = "closeExpiredAuctionsJob";
+    public static final String CLOSE_BEFORE = "closeBefore";
+
+    static final String WORKER_STEP_NAME = "closeExpiredAuctionRange";
+
+    @Bean
+    public Job closeExpiredAuctionsJob(JobRepository jobRepository, Step closeExpiredAuctionsStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(closeExpiredAuctionsStep)
+                .build();
+    }
+
+    @Bean
+    public Step closeExpiredAuctionsStep(JobRepository jobRepository,
+                                         AuctionIdRangePartitioner auctionIdRangePartitioner,
+                                         Step closeExpiredAuctionRangeStep,
+                                         @Value("${auction.closer.batch.partitions:0}") int partitions) {
+        int gridSize = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("auction-close-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder("closeExpiredAuctions", jobRepository)
+                .partitioner(WORKER_STEP_NAME, auctionIdRangePartitioner)
+                .step(closeExpiredAuctionRangeStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step closeExpiredAuctionRangeStep(JobRepository jobRepository,
+                                             PlatformTransactionManager transactionManager,
+                                             JdbcPagingItemReader<Long> expiredAuctionReader,
+                                             ItemWriter<Long> expiredAuctionWriter,
+                                             @Value("${auction.closer.batch.chunk-size:1000}") int chunkSize) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(expiredAuctionReader)
+                .writer(expiredAuctionWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public AuctionIdRangePartitioner auctionIdRangePartitioner(JdbcTemplate jdbcTemplate,
+                                                               @Value("#{jobParameters['closeBefore']}") LocalDateTime closeBefore) {
+        return new AuctionIdRangePartitioner(jdbcTemplate, closeBefore);
+    }
+
+    /**
+     * Pages through the range by auction_id, the last id read is saved with every chunk
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> expiredAuctionReader(DataSource dataSource,
+                                                           @Value("#{jobParameters['closeBefore']}") LocalDateTime closeBefore,
+                                                           @Value("#{stepExecutionContext['minId']}") Long minId,
+                                                           @Value("#{stepExecutionContext['maxId']}") Long maxId,
+                                                           @Value("${auction.closer.batch.chunk-size:1000}") int chunkSize) {
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("expiredAuctionReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT auction_id")
+                .fromClause("FROM auction")
+                .whereClause("WHERE status = 'OPEN' AND expiration_time < :closeBefore AND auction_id BETWEEN :minId AND :maxId")
+                .parameterValues(Map.of(CLOSE_BEFORE, closeBefore,
+                        AuctionIdRangePartitioner.MIN_ID, minId,
+                        AuctionIdRangePartitioner.MAX_ID, maxId))
+                .sortKeys(Map.of("auction_id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> rs.getLong(1))
+                .pageSize(chunkSize)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<Long> expiredAuctionWriter(AuctionBulkCloser auctionBulkCloser,
+                                                 @Value("#{jobParameters['closeBefore']}") LocalDateTime closeBefore) {
+        return chunk -> auctionBulkCloser.closeChunk(List.copyOf(chunk.getItems()), closeBefore);
+    }
+}
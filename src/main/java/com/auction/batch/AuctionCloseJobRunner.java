@@ -0,0 +1,89 @@
+package com.auction.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Runs the auction closing job. A run which failed or was interrupted is restarted with its own parameters
+ * before a new run is started, so it continues after its last committed chunk instead of starting over.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionCloseJobRunner {
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final Job closeExpiredAuctionsJob;
+
+    public BatchStatus run(LocalDateTime closeBefore) throws Exception {
+        JobExecution lastExecution = getLastExecution();
+        if (lastExecution != null && isRestartable(lastExecution.getStatus())) {
+            log.info("Restarting auction closing run {} which ended {}", lastExecution.getJobInstance().getInstanceId(),
+                    lastExecution.getStatus());
+            launch(lastExecution.getJobParameters());
+        }
+
+        return launch(new JobParametersBuilder()
+                .addLocalDateTime(AuctionCloseJobConfig.CLOSE_BEFORE, closeBefore)
+                .toJobParameters());
+    }
+
+    /**
+     * A run still marked as started when the application starts was interrupted by a crash. It is marked
+     * as failed, which lets the next run restart it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedRuns() {
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(AuctionCloseJobConfig.JOB_NAME)) {
+            LocalDateTime now = LocalDateTime.now();
+            for (StepExecution stepExecution : execution.getStepExecutions()) {
+                if (stepExecution.getStatus().isRunning()) {
+                    stepExecution.setStatus(BatchStatus.FAILED);
+                    stepExecution.setEndTime(now);
+                    jobRepository.update(stepExecution);
+                }
+            }
+            execution.setStatus(BatchStatus.FAILED);
+            execution.setEndTime(now);
+            jobRepository.update(execution);
+            log.warn("Marked interrupted auction closing run {} as failed", execution.getJobInstance().getInstanceId());
+        }
+    }
+
+    private BatchStatus launch(JobParameters jobParameters) throws Exception {
+        JobExecution execution = jobLauncher.run(closeExpiredAuctionsJob, jobParameters);
+        long closed = execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith(AuctionCloseJobConfig.WORKER_STEP_NAME))
+                .mapToLong(StepExecution::getWriteCount)
+                .sum();
+        log.info("Auction closing run {} ended {}, {} expired auctions written", execution.getJobInstance().getInstanceId(),
+                execution.getStatus(), closed);
+        return execution.getStatus();
+    }
+
+    private JobExecution getLastExecution() {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(AuctionCloseJobConfig.JOB_NAME);
+        return lastInstance == null ? null : jobExplorer.getLastJobExecution(lastInstance);
+    }
+
+    private boolean isRestartable(BatchStatus status) {
+        return status == BatchStatus.FAILED || status == BatchStatus.STOPPED;
+    }
+}
@@ -0,0 +1,59 @@
+package com.auction.batch;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Splits the open auctions expired before the cut-off time into gridSize contiguous auction_id ranges.
+ * Every range is kept in the execution context of its partition, so a restarted job closes the same ranges.
+ */
+public class AuctionIdRangePartitioner implements Partitioner {
+
+    static final String MIN_ID = "minId";
+    static final String MAX_ID = "maxId";
+
+    private static final String EXPIRED_ID_RANGE_SQL =
+            "SELECT MIN(auction_id), MAX(auction_id) FROM auction WHERE status = 'OPEN' AND expiration_time < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDateTime closeBefore;
+
+    public AuctionIdRangePartitioner(JdbcTemplate jdbcTemplate, LocalDateTime closeBefore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.closeBefore = closeBefore;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] range = jdbcTemplate.queryForObject(EXPIRED_ID_RANGE_SQL,
+                (rs, rowNum) -> rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)},
+                closeBefore);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (range == null) {
+            partitions.put("partition0", rangeContext(1, 0));
+            return partitions;
+        }
+
+        long minId = range[0];
+        long maxId = range[1];
+        long rangeSize = Math.max(Math.ceilDiv(maxId - minId + 1, gridSize), 1);
+        int partition = 0;
+        for (long from = minId; from <= maxId; from += rangeSize) {
+            partitions.put("partition" + partition++, rangeContext(from, Math.min(from + rangeSize - 1, maxId)));
+        }
+        return partitions;
+    }
+
+    private ExecutionContext rangeContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
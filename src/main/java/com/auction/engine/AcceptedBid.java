@@ -0,0 +1,16 @@
+package com.auction.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bid accepted by the in-memory owner of an auction, not necessarily persisted yet. The amount is in cents.
+ */
+public record AcceptedBid(
+        Long bidId,
+        Long auctionId,
+        String auctionTitle,
+        Long userId,
+        String username,
+        long amount,
+        LocalDateTime bidTime) {
+}
@@ -0,0 +1,57 @@
+package com.auction.engine;
+
+import com.auction.model.Auction;
+import com.auction.model.AuctionStatus;
+import com.auction.model.Money;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * In-memory state of a single auction owned by the {@link BidSequencer}.
+ * Only ever read and written from the auction's {@link SerialExecutor}, so it needs no locking.
+ * Prices are kept as raw cents.
+ */
+@Getter
+public class AuctionBook {
+
+    private final Long auctionId;
+    private String title;
+    private long startingPrice;
+    private long highestBid;
+    private Long highestBidUserId;
+    private String status;
+    private LocalDateTime expirationTime;
+
+    public AuctionBook(Auction auction) {
+        this.auctionId = auction.getAuctionId();
+        this.highestBid = Money.centsOrNone(auction.getHighestBid());
+        this.highestBidUserId = auction.getHighestBidUser() != null ? auction.getHighestBidUser().getUserId() : null;
+        refresh(auction);
+    }
+
+    public void validate(long amount, LocalDateTime now) {
+        BidRules.validateAuctionStatus(auctionId, status, expirationTime, now);
+        BidRules.validateBidAmount(amount, startingPrice, highestBid);
+    }
+
+    public void advance(AcceptedBid acceptedBid) {
+        this.highestBid = acceptedBid.amount();
+        this.highestBidUserId = acceptedBid.userId();
+    }
+
+    /**
+     * Takes over the attributes an admin or the scheduler may change. The highest bid is kept,
+     * since the persisted one may still lag behind the write-behind stage.
+     */
+    public void refresh(Auction auction) {
+        this.title = auction.getTitle();
+        this.startingPrice = auction.getStartingPrice().cents();
+        this.status = auction.getStatus();
+        this.expirationTime = auction.getExpirationTime();
+    }
+
+    public boolean isClosed() {
+        return AuctionStatus.CLOSED.name().equals(status);
+    }
+}
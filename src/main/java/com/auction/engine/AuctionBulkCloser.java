@@ -0,0 +1,95 @@
+package com.auction.engine;
+
+import com.auction.event.AuctionChangedEvent;
+import com.auction.model.AuctionDeadline;
+import com.auction.outbox.OutboxWriter;
+import com.auction.repository.AuctionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes expired auctions with set-based UPDATEs of up to chunk-size auctions, each in its own transaction.
+ * Expired auctions are walked in (expiration_time, auction_id) order, every chunk seeking past the last auction
+ * of the previous one, so no auction is skipped or read twice and no entity is loaded.
+ */
+@Component
+@Slf4j
+public class AuctionBulkCloser {
+
+    private final AuctionRepository auctionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final int chunkSize;
+
+    public AuctionBulkCloser(AuctionRepository auctionRepository, TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher, OutboxWriter outboxWriter,
+                             @Value("${auction.closer.bulk.chunk-size:1000}") int chunkSize) {
+        this.auctionRepository = auctionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.outboxWriter = outboxWriter;
+        this.chunkSize = chunkSize;
+    }
+
+    public CloseRunStats closeExpired(LocalDateTime now) {
+        return closeExpired(now, 1, 0);
+    }
+
+    /**
+     * Closes only the expired auctions whose id modulo slices is the given slice
+     */
+    public CloseRunStats closeExpired(LocalDateTime now, int slices, int slice) {
+        long started = System.nanoTime();
+        long auctionsClosed = 0;
+        int chunks = 0;
+        long maxChunkNanos = 0;
+
+        long chunkStarted = started;
+        List<AuctionDeadline> chunk = auctionRepository.findExpiredDeadlines(now, slices, slice, Limit.of(chunkSize));
+        while (!chunk.isEmpty()) {
+            auctionsClosed += closeChunk(chunk.stream().map(AuctionDeadline::auctionId).toList(), now);
+            chunks++;
+            maxChunkNanos = Math.max(maxChunkNanos, System.nanoTime() - chunkStarted);
+
+            AuctionDeadline last = chunk.get(chunk.size() - 1);
+            chunkStarted = System.nanoTime();
+            chunk = chunk.size() < chunkSize ? List.of() : auctionRepository.findExpiredDeadlinesAfter(
+                    now, slices, slice, last.expirationTime(), last.auctionId(), Limit.of(chunkSize));
+        }
+
+        CloseRunStats stats = new CloseRunStats(auctionsClosed, chunks,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), TimeUnit.NANOSECONDS.toMillis(maxChunkNanos));
+        log.info("Closed {} expired auctions in {} chunks, {} ms (mean chunk {} ms, max chunk {} ms)",
+                stats.auctionsClosed(), stats.chunks(), stats.elapsedMillis(), stats.meanChunkMillis(), stats.maxChunkMillis());
+        return stats;
+    }
+
+    /**
+     * Closes the given auctions in one transaction, those closed or extended meanwhile are left alone.
+     * The auctions to close are locked first, so that exactly the closed ones get an outbox event.
+     *
+     * @return the number of auctions closed
+     */
+    public int closeChunk(List<Long> auctionIds, LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            List<Long> expiredAuctionIds = auctionRepository.lockExpired(auctionIds, now);
+            if (expiredAuctionIds.isEmpty()) {
+                return 0;
+            }
+            int closed = auctionRepository.closeExpired(expiredAuctionIds, now);
+            outboxWriter.appendAuctionsClosed(expiredAuctionIds, now);
+            auctionRepository.findVersionsByAuctionIdIn(expiredAuctionIds).forEach(auctionVersion -> eventPublisher.publishEvent(
+                    new AuctionChangedEvent(auctionVersion.auctionId(), auctionVersion.version())));
+            return closed;
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.auction.engine;
+
+/**
+ * Way the reconciliation sweep of {@link com.auction.scheduler.AuctionScheduler} closes expired auctions.
+ */
+public enum AuctionSweepMode {
+
+    /**
+     * Expired auctions are loaded page by page and saved one by one, all in a single transaction.
+     */
+    ENTITY,
+
+    /**
+     * Expired auctions are closed by chunked set-based UPDATEs, each chunk committing on its own.
+     */
+    BULK,
+
+    /**
+     * Expired auctions are split into auction_id ranges closed in parallel by a restartable Spring Batch job.
+     */
+    BATCH
+}
@@ -0,0 +1,48 @@
+package com.auction.engine;
+
+import com.auction.model.Auction;
+import com.auction.model.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last known price, status and expiration of an auction. The highest bid only ever moves up,
+ * the other attributes are taken from the most recent version of the auction seen.
+ * The highest bid is in cents, {@link Money#NO_AMOUNT} while the auction has no bids.
+ * <p>
+ * A tombstone knows nothing about the auction but the version of its last change, it has no status.
+ */
+public record AuctionWatermark(long version, long highestBid, String status, LocalDateTime expirationTime) {
+
+    public static AuctionWatermark of(Auction auction) {
+        long version = auction.getVersion() != null ? auction.getVersion() : 0L;
+        return new AuctionWatermark(version, Money.centsOrNone(auction.getHighestBid()), auction.getStatus(),
+                auction.getExpirationTime());
+    }
+
+    public static AuctionWatermark tombstone(long version) {
+        return new AuctionWatermark(version, Money.NO_AMOUNT, null, null);
+    }
+
+    public boolean isTombstone() {
+        return status == null;
+    }
+
+    /**
+     * A tombstone only gives way to a version at least as recent as the change it stands for
+     */
+    public AuctionWatermark merge(AuctionWatermark other) {
+        if (isTombstone()) {
+            return other.version >= version ? other : this;
+        }
+        AuctionWatermark latest = other.version >= version ? other : this;
+        return new AuctionWatermark(latest.version, Math.max(highestBid, other.highestBid), latest.status, latest.expirationTime);
+    }
+
+    public AuctionWatermark advance(long amount) {
+        if (isTombstone()) {
+            return this;
+        }
+        return new AuctionWatermark(version, Math.max(highestBid, amount), status, expirationTime);
+    }
+}
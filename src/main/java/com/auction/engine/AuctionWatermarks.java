@@ -0,0 +1,66 @@
+package com.auction.engine;
+
+import com.auction.event.AuctionChangedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.model.Auction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-auction watermarks used to reject bids which can't win before they touch the database.
+ * A watermark is a lower bound of the real highest bid: it is advanced only after a bid committed,
+ * so it never rejects a bid the database would accept.
+ * <p>
+ * A change of the auction replaces its watermark by a tombstone carrying the version of the change, so that reads
+ * of an older version still in flight can't bring back the status or expiration the change replaced.
+ */
+@Component
+public class AuctionWatermarks {
+
+    private final Map<Long, AuctionWatermark> watermarks = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public AuctionWatermarks(@Value("${auction.bid.watermarks.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Throws the same exception the bid would eventually fail with, if the watermark already tells
+     * that the auction is closed or expired or the amount doesn't beat the highest bid.
+     */
+    public void rejectIfStale(Long auctionId, long amount, LocalDateTime now) {
+        if (!enabled) {
+            return;
+        }
+        AuctionWatermark watermark = watermarks.get(auctionId);
+        if (watermark == null || watermark.isTombstone()) {
+            return;
+        }
+        BidRules.validateAuctionStatus(auctionId, watermark.status(), watermark.expirationTime(), now);
+        BidRules.validateAboveHighestBid(amount, watermark.highestBid());
+    }
+
+    public void observe(Auction auction) {
+        if (enabled) {
+            watermarks.merge(auction.getAuctionId(), AuctionWatermark.of(auction), AuctionWatermark::merge);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        watermarks.computeIfPresent(event.auctionId(), (auctionId, watermark) -> watermark.advance(event.amount().cents()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        if (enabled) {
+            watermarks.compute(event.auctionId(), (auctionId, watermark) ->
+                    watermark != null && watermark.version() >= event.version() ? watermark : AuctionWatermark.tombstone(event.version()));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.auction.engine;
+
+import com.auction.event.BidAcceptedEvent;
+import com.auction.event.BidsPersistedEvent;
+import com.auction.model.Money;
+import com.auction.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Writes accepted bids, the resulting highest bids of their auctions and the outbox events of the bids
+ * as JDBC batches in one transaction, so an event is never relayed before its bid and the bid before it are stored.
+ * Bids accepted by this process are inserted, bids replayed from the journal are merged, since some of them
+ * may already be persisted. Their events are appended again, the outbox delivers at least once anyway.
+ * Once the transaction committed, a {@link BidsPersistedEvent} tells the readers of the auctions they changed.
+ */
+@Component
+@RequiredArgsConstructor
+public class BidBatchWriter {
+
+    private static final String INSERT_BID_SQL =
+            "INSERT INTO bid (bid_id, auction_id, user_id, amount, bid_time) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String MERGE_BID_SQL =
+            "MERGE INTO bid (bid_id, auction_id, user_id, amount, bid_time) KEY (bid_id) VALUES (?, ?, ?, ?, ?)";
+
+    // Guarded so that a batch can never lower a price which is already persisted
+    private static final String UPDATE_AUCTION_SQL =
+            "UPDATE auction SET highest_bid = ?, highest_bid_user_id = ?, updated_at = ?, version = COALESCE(version, 0) + 1 " +
+            "WHERE auction_id = ? AND (highest_bid IS NULL OR highest_bid < ?)";
+
+    private static final String SELECT_USERNAMES_SQL = "SELECT user_id, username FROM users WHERE user_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter outboxWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void write(List<AcceptedBid> bids) {
+        write(INSERT_BID_SQL, bids);
+    }
+
+    /**
+     * Writes bids which may have reached the database before, an already persisted bid is rewritten with the same values
+     */
+    public void replay(List<AcceptedBid> bids) {
+        write(MERGE_BID_SQL, bids);
+    }
+
+    private void write(String bidSql, List<AcceptedBid> bids) {
+        Collection<AcceptedBid> highestBids = bids.stream()
+                .collect(Collectors.toMap(AcceptedBid::auctionId, bid -> bid,
+                        BinaryOperator.maxBy(Comparator.comparingLong(AcceptedBid::amount))))
+                .values();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(bidSql, bids, bids.size(), (ps, bid) -> {
+                ps.setLong(1, bid.bidId());
+                ps.setLong(2, bid.auctionId());
+                ps.setLong(3, bid.userId());
+                ps.setBigDecimal(4, Money.ofCents(bid.amount()).toBigDecimal());
+                ps.setTimestamp(5, Timestamp.valueOf(bid.bidTime()));
+            });
+            jdbcTemplate.batchUpdate(UPDATE_AUCTION_SQL, highestBids, highestBids.size(), (ps, bid) -> {
+                ps.setBigDecimal(1, Money.ofCents(bid.amount()).toBigDecimal());
+                ps.setLong(2, bid.userId());
+                ps.setTimestamp(3, Timestamp.valueOf(bid.bidTime()));
+                ps.setLong(4, bid.auctionId());
+                ps.setBigDecimal(5, Money.ofCents(bid.amount()).toBigDecimal());
+            });
+            outboxWriter.appendBidsAccepted(toEvents(bids));
+            eventPublisher.publishEvent(new BidsPersistedEvent(highestBids.stream()
+                    .map(AcceptedBid::auctionId)
+                    .collect(Collectors.toSet())));
+        });
+    }
+
+    /**
+     * Bids replayed from the journal don't carry the username, it is read for those
+     */
+    private List<BidAcceptedEvent> toEvents(List<AcceptedBid> bids) {
+        List<Long> unnamedUserIds = bids.stream()
+                .filter(bid -> bid.username() == null)
+                .map(AcceptedBid::userId)
+                .distinct()
+                .toList();
+        Map<Long, String> usernames = unnamedUserIds.isEmpty() ? Map.of() : findUsernames(unnamedUserIds);
+        return bids.stream()
+                .map(bid -> new BidAcceptedEvent(bid.auctionId(), bid.bidId(), bid.userId(),
+                        bid.username() != null ? bid.username() : usernames.get(bid.userId()),
+                        Money.ofCents(bid.amount()), bid.bidTime()))
+                .toList();
+    }
+
+    private Map<Long, String> findUsernames(List<Long> userIds) {
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        return jdbcTemplate.query(String.format(SELECT_USERNAMES_SQL, placeholders),
+                        (rs, rowNum) -> Map.entry(rs.getLong("user_id"), rs.getString("username")),
+                        userIds.toArray())
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,35 @@
+package com.auction.engine;
+
+/**
+ * Strategy used by {@link com.auction.service.BidService} to accept bids.
+ */
+public enum BidEngineMode {
+
+    /**
+     * Every bid locks the auction row for the duration of a JPA transaction.
+     */
+    LOCKING,
+
+    /**
+     * The auction is read without a lock, a concurrent bid is detected by the version check on commit
+     * and the bid is retried a few times.
+     */
+    OPTIMISTIC,
+
+    /**
+     * A single guarded UPDATE accepts the bid only if it beats the current highest bid, no row is read for update.
+     */
+    CONDITIONAL,
+
+    /**
+     * Every open auction has a single in-memory owner which accepts or rejects bids,
+     * accepted bids are persisted by a write-behind stage.
+     */
+    SEQUENCER,
+
+    /**
+     * Concurrent bids of all auctions are collected for a short while and decided by guarded UPDATEs
+     * in one JDBC batch and one commit.
+     */
+    GROUP_COMMIT
+}
@@ -0,0 +1,227 @@
+package com.auction.engine;
+
+import com.auction.event.BidAcceptedEvent;
+import com.auction.model.Money;
+import com.auction.model.User;
+import com.auction.outbox.OutboxWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Group commit for bids of all auctions. Bids arriving within {@code max-wait-micros} of the first one,
+ * or until {@code max-batch-size} bids are collected, are decided and persisted by one JDBC batch in one
+ * transaction, and every caller is answered once that transaction committed.
+ * <p>
+ * Each bid is a guarded UPDATE of its auction, executed in arrival order, so a bid in a batch sees the
+ * price set by the bids before it. Bids whose UPDATE matched no row are rejected without a reason,
+ * the caller reads the auction to explain it. The outbox events of the accepted bids are appended in the same transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "group-commit")
+@Slf4j
+public class BidGroupCommitter {
+
+    private static final String UPDATE_AUCTION_SQL =
+            "UPDATE auction SET highest_bid = ?, highest_bid_user_id = ?, updated_at = ?, version = COALESCE(version, 0) + 1 " +
+            "WHERE auction_id = ? AND status = 'OPEN' AND expiration_time > ? " +
+            "AND ((highest_bid IS NULL AND starting_price <= ?) OR highest_bid < ?)";
+
+    private static final String INSERT_BID_SQL =
+            "INSERT INTO bid (bid_id, auction_id, user_id, amount, bid_time) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_TITLES_SQL = "SELECT auction_id, title FROM auction WHERE auction_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BidIdAllocator bidIdAllocator;
+    private final OutboxWriter outboxWriter;
+    private final long maxWaitNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingBid> queue = new LinkedBlockingQueue<>();
+    private final Thread worker = new Thread(this::run, "bid-group-commit");
+    private volatile boolean running = true;
+
+    public BidGroupCommitter(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             BidIdAllocator bidIdAllocator,
+                             OutboxWriter outboxWriter,
+                             @Value("${auction.bid.group-commit.max-wait-micros:500}") long maxWaitMicros,
+                             @Value("${auction.bid.group-commit.max-batch-size:64}") int maxBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bidIdAllocator = bidIdAllocator;
+        this.outboxWriter = outboxWriter;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Blocks until the batch holding the bid committed. Returns the persisted bid,
+     * or nothing when the bid didn't beat the auction's highest bid or the auction isn't open.
+     */
+    public Optional<AcceptedBid> placeBid(Long auctionId, User user, long amount) {
+        PendingBid pendingBid = new PendingBid(auctionId, user.getUserId(), user.getUsername(), amount,
+                LocalDateTime.now(), new CompletableFuture<>());
+        queue.add(pendingBid);
+        try {
+            return Optional.ofNullable(pendingBid.result().join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void run() {
+        List<PendingBid> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingBid first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch, System.nanoTime() + maxWaitNanos);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pendingBid -> pendingBid.result().completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingBid> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingBid next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingBid> batch) {
+        List<AcceptedBid> results;
+        try {
+            results = transactionTemplate.execute(status -> write(batch));
+        } catch (RuntimeException e) {
+            log.warn("Failed to commit a batch of {} bids", batch.size(), e);
+            batch.forEach(pendingBid -> pendingBid.result().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+
+    /**
+     * Returns the accepted bid for every pending bid that won, null for the others, in batch order
+     */
+    private List<AcceptedBid> write(List<PendingBid> batch) {
+        int[] updatedRows = jdbcTemplate.batchUpdate(UPDATE_AUCTION_SQL, batch, batch.size(), (ps, pendingBid) -> {
+            Timestamp bidTime = Timestamp.valueOf(pendingBid.bidTime());
+            BigDecimal amount = Money.ofCents(pendingBid.amount()).toBigDecimal();
+            ps.setBigDecimal(1, amount);
+            ps.setLong(2, pendingBid.userId());
+            ps.setTimestamp(3, bidTime);
+            ps.setLong(4, pendingBid.auctionId());
+            ps.setTimestamp(5, bidTime);
+            ps.setBigDecimal(6, amount);
+            ps.setBigDecimal(7, amount);
+        })[0];
+
+        List<Long> wonAuctionIds = IntStream.range(0, batch.size())
+                .filter(i -> updatedRows[i] > 0)
+                .mapToObj(i -> batch.get(i).auctionId())
+                .distinct()
+                .toList();
+        if (wonAuctionIds.isEmpty()) {
+            return Collections.nCopies(batch.size(), null);
+        }
+
+        Map<Long, String> titles = findTitles(wonAuctionIds);
+        List<AcceptedBid> results = new ArrayList<>(batch.size());
+        List<AcceptedBid> acceptedBids = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingBid pendingBid = batch.get(i);
+            if (updatedRows[i] <= 0) {
+                results.add(null);
+                continue;
+            }
+            AcceptedBid acceptedBid = new AcceptedBid(bidIdAllocator.nextId(), pendingBid.auctionId(),
+                    titles.get(pendingBid.auctionId()), pendingBid.userId(), pendingBid.username(),
+                    pendingBid.amount(), pendingBid.bidTime());
+            results.add(acceptedBid);
+            acceptedBids.add(acceptedBid);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_BID_SQL, acceptedBids, acceptedBids.size(), (ps, bid) -> {
+            ps.setLong(1, bid.bidId());
+            ps.setLong(2, bid.auctionId());
+            ps.setLong(3, bid.userId());
+            ps.setBigDecimal(4, Money.ofCents(bid.amount()).toBigDecimal());
+            ps.setTimestamp(5, Timestamp.valueOf(bid.bidTime()));
+        });
+        outboxWriter.appendBidsAccepted(acceptedBids.stream()
+                .map(bid -> new BidAcceptedEvent(bid.auctionId(), bid.bidId(), bid.userId(), bid.username(),
+                        Money.ofCents(bid.amount()), bid.bidTime()))
+                .toList());
+        return results;
+    }
+
+    private Map<Long, String> findTitles(List<Long> auctionIds) {
+        String placeholders = String.join(", ", Collections.nCopies(auctionIds.size(), "?"));
+        return jdbcTemplate.query(String.format(SELECT_TITLES_SQL, placeholders),
+                        (rs, rowNum) -> Map.entry(rs.getLong("auction_id"), rs.getString("title")),
+                        auctionIds.toArray())
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private record PendingBid(Long auctionId, Long userId, String username, long amount,
+                              LocalDateTime bidTime, CompletableFuture<AcceptedBid> result) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.auction.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Hands out bid ids from BID_ID_SEQ, reserving them in blocks so that accepting a bid
+ * in memory doesn't need a database round trip per id.
+ */
+@Component
+public class BidIdAllocator {
+
+    private static final String RESERVE_IDS_SQL = "SELECT NEXT VALUE FOR BID_ID_SEQ FROM SYSTEM_RANGE(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+    private final Deque<Long> reservedIds = new ArrayDeque<>();
+
+    public BidIdAllocator(JdbcTemplate jdbcTemplate,
+                          @Value("${auction.bid.id-block-size:100}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+    }
+
+    public synchronized long nextId() {
+        if (reservedIds.isEmpty()) {
+            reservedIds.addAll(jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, blockSize));
+        }
+        return reservedIds.poll();
+    }
+}
@@ -0,0 +1,275 @@
+package com.auction.engine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of accepted bids, written to memory-mapped segment files. A bid is durable once the segment
+ * holding it was forced to disk, which happens every {@code fsyncBatchSize} records and at the latest after
+ * {@code fsyncIntervalMillis}, so a crash can lose the bids appended within that window. The write-behind stage moves
+ * the checkpoint forward after the bid reached the database.
+ * On startup every bid past the checkpoint is replayed into the bid and auction tables.
+ * <p>
+ * Every record has a fixed size: sequence, auction id, user id, bid id, amount in cents, bid time and a CRC32 checksum,
+ * padded to {@value #RECORD_SIZE} bytes. A zero sequence or a checksum mismatch marks the end of a segment.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bid.journal.enabled", havingValue = "true")
+@Slf4j
+public class BidJournal {
+
+    static final int RECORD_SIZE = 64;
+    private static final int PAYLOAD_SIZE = 48;
+    private static final int REPLAY_BATCH_SIZE = 500;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final BidBatchWriter bidBatchWriter;
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int fsyncBatchSize;
+    private final long fsyncIntervalMillis;
+    private final ScheduledExecutorService flusher;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 checksum = new CRC32();
+    private final Object checkpointLock = new Object();
+
+    private FileChannel checkpointChannel;
+    private volatile long checkpoint;
+    private MappedByteBuffer segment;
+    private int segmentRecords;
+    private long nextSequence;
+    private int unforcedRecords;
+
+    public BidJournal(BidBatchWriter bidBatchWriter,
+                      @Value("${auction.bid.journal.directory}") String directory,
+                      @Value("${auction.bid.journal.segment-size-mb:64}") int segmentSizeMb,
+                      @Value("${auction.bid.journal.fsync-batch-size:64}") int fsyncBatchSize,
+                      @Value("${auction.bid.journal.fsync-interval-ms:10}") long fsyncIntervalMillis) {
+        this.bidBatchWriter = bidBatchWriter;
+        this.directory = Paths.get(directory);
+        this.recordsPerSegment = segmentSizeMb * 1024 * 1024 / RECORD_SIZE;
+        this.fsyncBatchSize = fsyncBatchSize;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bid-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        checkpoint = readCheckpoint();
+
+        long lastSequence = replay();
+        checkpoint(lastSequence);
+        for (Path segmentPath : listSegments()) {
+            Files.delete(segmentPath);
+        }
+
+        nextSequence = lastSequence + 1;
+        openSegment();
+        flusher.scheduleWithFixedDelay(this::flush, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Appends a bid and returns its sequence. Forces the segment to disk every {@code fsyncBatchSize} records,
+     * the flusher forces whatever is left every {@code fsyncIntervalMillis}.
+     */
+    public synchronized long append(AcceptedBid bid) {
+        if (segmentRecords == recordsPerSegment) {
+            force();
+            deleteCheckpointedSegments();
+            openSegment();
+        }
+
+        long sequence = nextSequence++;
+        record.clear();
+        record.putLong(sequence)
+                .putLong(bid.auctionId())
+                .putLong(bid.userId())
+                .putLong(bid.bidId())
+                .putLong(bid.amount())
+                .putLong(toEpochNanos(bid.bidTime()));
+        checksum.reset();
+        checksum.update(record.array(), 0, PAYLOAD_SIZE);
+        record.putLong(checksum.getValue());
+        record.clear();
+        segment.put(record);
+        segmentRecords++;
+
+        if (++unforcedRecords >= fsyncBatchSize) {
+            force();
+        }
+        return sequence;
+    }
+
+    /**
+     * Records that every bid up to and including the given sequence is persisted in the database.
+     */
+    public void checkpoint(long sequence) {
+        synchronized (checkpointLock) {
+            if (sequence <= checkpoint) {
+                return;
+            }
+            try {
+                checkpointChannel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence), 0);
+                checkpointChannel.force(false);
+                checkpoint = sequence;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write bid journal checkpoint " + sequence, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        flusher.shutdown();
+        synchronized (this) {
+            force();
+        }
+        synchronized (checkpointLock) {
+            checkpointChannel.close();
+        }
+    }
+
+    private synchronized void flush() {
+        if (unforcedRecords > 0) {
+            force();
+        }
+    }
+
+    private void force() {
+        if (segment != null) {
+            segment.force();
+        }
+        unforcedRecords = 0;
+    }
+
+    private long replay() throws IOException {
+        long lastSequence = checkpoint;
+        List<AcceptedBid> pending = new ArrayList<>(REPLAY_BATCH_SIZE);
+        int replayed = 0;
+
+        for (Path segmentPath : listSegments()) {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            while (buffer.remaining() >= RECORD_SIZE) {
+                buffer.get(record.clear().array(), 0, RECORD_SIZE);
+                long sequence = record.getLong(0);
+                checksum.reset();
+                checksum.update(record.array(), 0, PAYLOAD_SIZE);
+                if (sequence == 0 || record.getLong(PAYLOAD_SIZE) != checksum.getValue()) {
+                    break;
+                }
+                lastSequence = Math.max(lastSequence, sequence);
+                if (sequence <= checkpoint) {
+                    continue;
+                }
+
+                pending.add(new AcceptedBid(record.getLong(24), record.getLong(8), null, record.getLong(16), null,
+                        record.getLong(32), fromEpochNanos(record.getLong(40))));
+                if (pending.size() == REPLAY_BATCH_SIZE) {
+                    bidBatchWriter.replay(pending);
+                    replayed += pending.size();
+                    pending.clear();
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            bidBatchWriter.replay(pending);
+            replayed += pending.size();
+        }
+
+        if (replayed > 0) {
+            log.info("Replayed {} bids from the bid journal past checkpoint {}", replayed, checkpoint);
+        }
+        return lastSequence;
+    }
+
+    private void openSegment() {
+        Path segmentPath = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(segmentPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+            segmentRecords = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open bid journal segment " + segmentPath, e);
+        }
+    }
+
+    /**
+     * A segment can go once the first sequence of the segment after it is already checkpointed.
+     */
+    private void deleteCheckpointedSegments() {
+        try {
+            List<Path> segments = listSegments();
+            for (int i = 0; i < segments.size() - 1; i++) {
+                if (firstSequence(segments.get(i + 1)) - 1 > checkpoint) {
+                    break;
+                }
+                Files.delete(segments.get(i));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete checkpointed bid journal segments", e);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long firstSequence(Path segmentPath) {
+        String fileName = segmentPath.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private long readCheckpoint() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        return checkpointChannel.read(buffer, 0) == Long.BYTES ? buffer.getLong(0) : 0L;
+    }
+
+    private static long toEpochNanos(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + time.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,51 @@
+package com.auction.engine;
+
+import com.auction.exception.AuctionClosedException;
+import com.auction.exception.AuctionTimeExpiredException;
+import com.auction.exception.InvalidBidException;
+import com.auction.model.AuctionStatus;
+import com.auction.model.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validation rules for a bid, shared by all bid engine modes so that every mode rejects bids
+ * with the same exceptions and messages.
+ * <p>
+ * Amounts are raw cents, {@link Money#NO_AMOUNT} standing for an auction without bids.
+ */
+public final class BidRules {
+
+    private BidRules() {
+    }
+
+    public static void validateAuctionStatus(Long auctionId, String status, LocalDateTime expirationTime, LocalDateTime now) {
+        if (expirationTime.isBefore(now)) {
+            throw new AuctionTimeExpiredException(
+                    String.format("Bids on auction with id %d can't be made since it is expired", auctionId));
+        }
+
+        if (AuctionStatus.CLOSED.equals(AuctionStatus.valueOf(status))) {
+            throw new AuctionClosedException(
+                    String.format("Bids on auction with id %d can't be made since it is closed", auctionId));
+        }
+    }
+
+    public static void validateBidAmount(long amount, long startingPrice, long highestBid) {
+        if (highestBid == Money.NO_AMOUNT && amount < startingPrice) {
+            throw new InvalidBidException(
+                    String.format("Bid amount %s must be greater than or equal to the starting price %s",
+                            Money.format(amount), Money.format(startingPrice)));
+        }
+
+        validateAboveHighestBid(amount, highestBid);
+    }
+
+    public static void validateAboveHighestBid(long amount, long highestBid) {
+        if (highestBid != Money.NO_AMOUNT && amount <= highestBid) {
+            throw new InvalidBidException(
+                    String.format("Bid amount %s must be higher than the current highest bid amount %s",
+                            Money.format(amount), Money.format(highestBid)));
+        }
+    }
+}
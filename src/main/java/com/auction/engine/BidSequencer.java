@@ -0,0 +1,112 @@
+package com.auction.engine;
+
+import com.auction.event.AuctionChangedEvent;
+import com.auction.exception.ResourceNotFoundException;
+import com.auction.model.User;
+import com.auction.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single-writer bid engine: every open auction is owned by one {@link AuctionBook}, and all bids for that
+ * auction are queued to it through its own {@link SerialExecutor}. A bid is checked against the in-memory
+ * highest bid and answered right away, the bid and the new price are persisted by {@link BidWriteBehind}.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "sequencer")
+@Slf4j
+public class BidSequencer {
+
+    private final AuctionRepository auctionRepository;
+    private final BidWriteBehind bidWriteBehind;
+    private final BidIdAllocator bidIdAllocator;
+    private final ExecutorService executor;
+    private final Map<Long, AuctionLane> lanes = new ConcurrentHashMap<>();
+
+    public BidSequencer(AuctionRepository auctionRepository,
+                        BidWriteBehind bidWriteBehind,
+                        BidIdAllocator bidIdAllocator,
+                        @Value("${auction.bid.sequencer.threads:4}") int threads) {
+        this.auctionRepository = auctionRepository;
+        this.bidWriteBehind = bidWriteBehind;
+        this.bidIdAllocator = bidIdAllocator;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bid-sequencer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public AcceptedBid placeBid(Long auctionId, User user, long amount) {
+        AuctionLane lane = getLane(auctionId);
+        try {
+            return CompletableFuture.supplyAsync(() -> accept(lane.book(), user, amount), lane.executor()).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Re-reads an owned auction after an admin update or a close, on the auction's own executor
+     * so that it never races with bids being accepted.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        AuctionLane lane = lanes.get(event.auctionId());
+        if (lane == null) {
+            return;
+        }
+        auctionRepository.findByAuctionId(event.auctionId()).ifPresentOrElse(
+                auction -> lane.executor().execute(() -> {
+                    lane.book().refresh(auction);
+                    if (lane.book().isClosed()) {
+                        lanes.remove(event.auctionId(), lane);
+                    }
+                }),
+                () -> lanes.remove(event.auctionId(), lane));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private AcceptedBid accept(AuctionBook book, User user, long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        book.validate(amount, now);
+
+        AcceptedBid acceptedBid = new AcceptedBid(bidIdAllocator.nextId(), book.getAuctionId(), book.getTitle(),
+                user.getUserId(), user.getUsername(), amount, now);
+        book.advance(acceptedBid);
+        bidWriteBehind.enqueue(acceptedBid);
+        return acceptedBid;
+    }
+
+    private AuctionLane getLane(Long auctionId) {
+        // The auction is loaded on the caller's thread, only the first bid on an auction pays for it
+        return lanes.computeIfAbsent(auctionId, id -> auctionRepository.findByAuctionId(id)
+                .map(auction -> new AuctionLane(new AuctionBook(auction), new SerialExecutor(executor)))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Auction with id %d not found", id))));
+    }
+
+    private record AuctionLane(AuctionBook book, SerialExecutor executor) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.auction.engine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists bids accepted by the {@link BidSequencer} in the background. Drains whatever has queued up
+ * since the last round and writes it as one JDBC batch in one transaction.
+ * <p>
+ * Queued bids were already answered as accepted, so a batch which fails is retried with growing delays until it
+ * is written, holding back the bids queued after it. Only a batch still failing on shutdown is left unwritten.
+ * <p>
+ * When the {@link BidJournal} is enabled, a bid is appended to it before it is queued, and the journal
+ * checkpoint follows every batch that reached the database. Once a batch could not be written the checkpoint
+ * stays before it for good, so that the next start replays it along with everything queued after it.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "sequencer")
+@Slf4j
+public class BidWriteBehind {
+
+    private static final long RETRY_DELAY_MILLIS = 200;
+    private static final long MAX_RETRY_DELAY_MILLIS = 10_000;
+
+    private final BidBatchWriter bidBatchWriter;
+    private final BidJournal bidJournal;
+    private final int batchSize;
+    private final BlockingQueue<PendingBid> queue = new LinkedBlockingQueue<>();
+    private final Object journalLock = new Object();
+    private final Thread worker = new Thread(this::drain, "bid-write-behind");
+    private volatile boolean running = true;
+    private boolean checkpointHeld;
+
+    public BidWriteBehind(BidBatchWriter bidBatchWriter,
+                          ObjectProvider<BidJournal> bidJournal,
+                          @Value("${auction.bid.sequencer.write-behind-batch-size:100}") int batchSize) {
+        this.bidBatchWriter = bidBatchWriter;
+        this.bidJournal = bidJournal.getIfAvailable();
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void enqueue(AcceptedBid acceptedBid) {
+        if (bidJournal == null) {
+            queue.add(new PendingBid(0, acceptedBid));
+            return;
+        }
+        // Queue order has to follow journal order, otherwise the checkpoint could pass a bid not yet persisted
+        synchronized (journalLock) {
+            queue.add(new PendingBid(bidJournal.append(acceptedBid), acceptedBid));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void drain() {
+        List<PendingBid> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingBid first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<PendingBid> batch) throws InterruptedException {
+        List<AcceptedBid> bids = batch.stream().map(PendingBid::bid).toList();
+        if (write(bids) && bidJournal != null && !checkpointHeld) {
+            bidJournal.checkpoint(batch.get(batch.size() - 1).sequence());
+        }
+    }
+
+    private boolean write(List<AcceptedBid> bids) throws InterruptedException {
+        long retryDelayMillis = RETRY_DELAY_MILLIS;
+        while (true) {
+            try {
+                bidBatchWriter.write(bids);
+                log.debug("Persisted {} accepted bids", bids.size());
+                return true;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("Failed to persist {} accepted bids before shutdown, giving up: {}", bids.size(), bids, e);
+                    checkpointHeld = bidJournal != null;
+                    return false;
+                }
+                log.warn("Failed to persist {} accepted bids, retrying in {} ms", bids.size(), retryDelayMillis, e);
+                Thread.sleep(retryDelayMillis);
+                retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private record PendingBid(long sequence, AcceptedBid bid) {
+    }
+}
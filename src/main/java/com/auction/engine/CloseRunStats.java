@@ -0,0 +1,11 @@
+package com.auction.engine;
+
+/**
+ * Outcome of one run closing expired auctions
+ */
+public record CloseRunStats(long auctionsClosed, int chunks, long elapsedMillis, long maxChunkMillis) {
+
+    public long meanChunkMillis() {
+        return chunks == 0 ? 0 : elapsedMillis / chunks;
+    }
+}
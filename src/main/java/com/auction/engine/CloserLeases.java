@@ -0,0 +1,88 @@
+package com.auction.engine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leases on slices of the auctions, shared by all instances through the closer_lease table. A slice is claimed
+ * by a single guarded UPDATE which only succeeds if the slice is free, its lease ran out or it is already ours,
+ * so instances sweeping at the same time split the slices between them instead of fighting over the same rows.
+ * Lease times are taken from the database clock, clocks of the instances don't need to agree.
+ */
+@Component
+@Slf4j
+public class CloserLeases {
+
+    private static final String ADD_SLICE_SQL = "MERGE INTO closer_lease (slice_id) KEY (slice_id) VALUES (?)";
+
+    private static final String CLAIM_SQL =
+            "UPDATE closer_lease SET owner = ?, lease_until = DATEADD('SECOND', ?, LOCALTIMESTAMP) " +
+            "WHERE slice_id = ? AND (owner IS NULL OR owner = ? OR lease_until <= LOCALTIMESTAMP)";
+
+    private static final String RELEASE_SQL =
+            "UPDATE closer_lease SET owner = NULL, lease_until = NULL WHERE slice_id = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int slices;
+    private final long leaseSeconds;
+    private final String owner;
+
+    public CloserLeases(JdbcTemplate jdbcTemplate,
+                        @Value("${auction.closer.lease.slices:16}") int slices,
+                        @Value("${auction.closer.lease.lease-seconds:300}") long leaseSeconds,
+                        @Value("${auction.closer.lease.owner:}") String owner) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.slices = slices;
+        this.leaseSeconds = leaseSeconds;
+        this.owner = owner.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID() : owner;
+    }
+
+    @PostConstruct
+    public void addSlices() {
+        List<Object[]> sliceIds = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            sliceIds.add(new Object[]{slice});
+        }
+        jdbcTemplate.batchUpdate(ADD_SLICE_SQL, sliceIds);
+    }
+
+    public int slices() {
+        return slices;
+    }
+
+    /**
+     * All slices in random order, so that instances starting a sweep together try different slices first
+     */
+    public List<Integer> shuffledSlices() {
+        List<Integer> sliceIds = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            sliceIds.add(slice);
+        }
+        Collections.shuffle(sliceIds);
+        return sliceIds;
+    }
+
+    /**
+     * @return true if this instance holds the lease of the slice now
+     */
+    public boolean tryClaim(int slice) {
+        return jdbcTemplate.update(CLAIM_SQL, owner, leaseSeconds, slice, owner) == 1;
+    }
+
+    public void release(int slice) {
+        jdbcTemplate.update(RELEASE_SQL, slice, owner);
+    }
+
+    public String owner() {
+        return owner;
+    }
+}
@@ -0,0 +1,187 @@
+package com.auction.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans values out to the subscribers of a key. Publishing only stores the value in a single slot per subscriber
+ * and schedules the subscriber on a small pool of sender threads, so it never waits on a subscriber.
+ * <p>
+ * A subscriber which is still busy with a previous value finds only the latest value in its slot once it is done,
+ * the values published in between are skipped. A slow subscriber therefore holds at most one pending value,
+ * and the queue of the sender threads holds at most one task per subscriber.
+ * <p>
+ * Values may be published out of order by concurrent publishers. Given an order, a subscriber drops every value
+ * older than the newest one offered to it, so that a late value never replaces a newer one.
+ */
+@Slf4j
+public class CoalescingBroadcaster<K, V> {
+
+    @FunctionalInterface
+    public interface Subscriber<V> {
+
+        void send(V value) throws Exception;
+    }
+
+    private final Map<K, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final Comparator<? super V> order;
+
+    /**
+     * Values are taken in the order they are published
+     */
+    public CoalescingBroadcaster(String name, int senderThreads) {
+        this(name, senderThreads, (value, other) -> 0);
+    }
+
+    public CoalescingBroadcaster(String name, int senderThreads, Comparator<? super V> order) {
+        this.order = order;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Subscription subscribe(K key, Subscriber<V> subscriber) {
+        Subscription subscription = new Subscription(key, subscriber);
+        subscriptions.compute(key, (k, keySubscriptions) -> {
+            Set<Subscription> updated = keySubscriptions != null ? keySubscriptions : ConcurrentHashMap.newKeySet();
+            updated.add(subscription);
+            return updated;
+        });
+        return subscription;
+    }
+
+    public void publish(K key, V value) {
+        Set<Subscription> keySubscriptions = subscriptions.get(key);
+        if (keySubscriptions != null) {
+            keySubscriptions.forEach(subscription -> subscription.offer(value));
+        }
+    }
+
+    public boolean hasSubscribers(K key) {
+        return subscriptions.containsKey(key);
+    }
+
+    public int subscriberCount(K key) {
+        Set<Subscription> keySubscriptions = subscriptions.get(key);
+        return keySubscriptions != null ? keySubscriptions.size() : 0;
+    }
+
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        senders.shutdown();
+        senders.awaitTermination(timeout, unit);
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.key, (k, keySubscriptions) -> {
+            keySubscriptions.remove(subscription);
+            return keySubscriptions.isEmpty() ? null : keySubscriptions;
+        });
+    }
+
+    public final class Subscription {
+
+        private final K key;
+        private final Subscriber<V> subscriber;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean cancelled;
+        // Guarded by this
+        private V pending;
+        private V newest;
+        private boolean offered;
+
+        private Subscription(K key, Subscriber<V> subscriber) {
+            this.key = key;
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Replaces the pending value of this subscriber, unless the value is older than one offered before
+         */
+        public void offer(V value) {
+            synchronized (this) {
+                offered = true;
+                if (newest != null && order.compare(value, newest) < 0) {
+                    return;
+                }
+                newest = value;
+                pending = value;
+            }
+            schedule();
+        }
+
+        /**
+         * Offers the value unless another one was offered already. Meant for a snapshot read after subscribing,
+         * which must not overwrite a value published meanwhile.
+         */
+        public void offerInitial(V value) {
+            synchronized (this) {
+                if (offered) {
+                    return;
+                }
+                offered = true;
+                newest = value;
+                pending = value;
+            }
+            schedule();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            synchronized (this) {
+                pending = null;
+            }
+            remove(this);
+        }
+
+        private void schedule() {
+            if (!cancelled && scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            V value;
+            while (!cancelled && (value = takePending()) != null) {
+                try {
+                    subscriber.send(value);
+                } catch (Exception e) {
+                    log.debug("Dropping subscriber of {}: {}", key, e.getMessage());
+                    cancel();
+                }
+            }
+            scheduled.set(false);
+            // A value offered after the last read but before the flag was cleared found the subscriber still scheduled
+            if (hasPending()) {
+                schedule();
+            }
+        }
+
+        private synchronized V takePending() {
+            V value = pending;
+            pending = null;
+            return value;
+        }
+
+        private synchronized boolean hasPending() {
+            return pending != null;
+        }
+    }
+}
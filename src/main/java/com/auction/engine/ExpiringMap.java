@@ -0,0 +1,88 @@
+package com.auction.engine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bounded, concurrent map whose entries expire a fixed time after they were added. Insertion order is therefore also
+ * expiration order, and a single queue is enough to evict both expired entries and, once the map is full, the oldest
+ * ones. Values are compared by identity, an entry is only removed by the value it was added with.
+ */
+class ExpiringMap<K, V> {
+
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    ExpiringMap(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * @return the value mapped to the key, or null if there is none or it expired
+     */
+    V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        return entry == null || isExpired(entry, System.nanoTime()) ? null : entry.value();
+    }
+
+    /**
+     * Maps the value to the key, unless a live value is mapped already.
+     *
+     * @return the live value mapped to the key before, or null if the given one was added
+     */
+    V putIfAbsent(K key, V value) {
+        long now = System.nanoTime();
+        evict(now);
+
+        Entry<K, V> entry = new Entry<>(key, value, now);
+        while (true) {
+            Entry<K, V> existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                insertionOrder.add(entry);
+                return null;
+            }
+            if (!isExpired(existing, now)) {
+                return existing.value();
+            }
+            entries.remove(key, existing);
+        }
+    }
+
+    void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes the entry of the key, only if it still holds the given value
+     */
+    void remove(K key, V value) {
+        entries.computeIfPresent(key, (k, entry) -> entry.value() == value ? null : entry);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Entry<K, V> eldest;
+        while ((eldest = insertionOrder.peek()) != null
+                && (isExpired(eldest, now) || entries.size() >= maxEntries)) {
+            if (insertionOrder.remove(eldest)) {
+                entries.remove(eldest.key(), eldest);
+            }
+        }
+    }
+
+    private boolean isExpired(Entry<K, V> entry, long now) {
+        return now - entry.createdAt() >= ttlNanos;
+    }
+
+    private record Entry<K, V>(K key, V value, long createdAt) {
+    }
+}
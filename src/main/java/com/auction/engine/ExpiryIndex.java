@@ -0,0 +1,106 @@
+package com.auction.engine;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Values ordered by the time they expire at, then by id, kept in a concurrent skip list. The values expiring next
+ * are read from its head in O(limit) without locking, while values are added, changed and removed concurrently.
+ * Values which expired are skipped and dropped by the reads, so they don't need to be removed on time.
+ */
+public class ExpiryIndex<V> {
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::expiresAt).thenComparingLong(Key::id);
+
+    private final ConcurrentNavigableMap<Key, V> values = new ConcurrentSkipListMap<>(KEY_ORDER);
+    // Key every value is filed under, for changing or removing it by id
+    private final Map<Long, Key> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the value, or replaces the one with the same id, which may have expired at another time
+     */
+    public void put(long id, LocalDateTime expiresAt, V value) {
+        Key key = new Key(expiresAt, id);
+        keys.compute(id, (ignored, previous) -> {
+            values.put(key, value);
+            if (previous != null && !previous.equals(key)) {
+                values.remove(previous);
+            }
+            return key;
+        });
+    }
+
+    /**
+     * Adds the value unless there already is one with the same id
+     */
+    public void putIfAbsent(long id, LocalDateTime expiresAt, V value) {
+        keys.computeIfAbsent(id, ignored -> {
+            Key key = new Key(expiresAt, id);
+            values.put(key, value);
+            return key;
+        });
+    }
+
+    /**
+     * Replaces the value with the given id by the result of the update, if there is one
+     */
+    public void update(long id, UnaryOperator<V> update) {
+        keys.computeIfPresent(id, (ignored, key) -> {
+            values.computeIfPresent(key, (k, value) -> update.apply(value));
+            return key;
+        });
+    }
+
+    public void remove(long id) {
+        keys.computeIfPresent(id, (ignored, key) -> {
+            values.remove(key);
+            return null;
+        });
+    }
+
+    public V get(long id) {
+        Key key = keys.get(id);
+        return key != null ? values.get(key) : null;
+    }
+
+    /**
+     * @return up to limit values expiring after now, those expiring next first
+     */
+    public List<V> next(LocalDateTime now, int limit) {
+        List<V> next = new ArrayList<>(limit);
+        Iterator<Map.Entry<Key, V>> iterator = values.entrySet().iterator();
+        while (next.size() < limit && iterator.hasNext()) {
+            Map.Entry<Key, V> entry = iterator.next();
+            if (entry.getKey().expiresAt().isAfter(now)) {
+                next.add(entry.getValue());
+            } else {
+                removeExpired(entry.getKey());
+            }
+        }
+        return next;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Removes the expired value only if it wasn't filed under another key meanwhile
+     */
+    private void removeExpired(Key key) {
+        if (keys.remove(key.id(), key)) {
+            values.remove(key);
+        }
+    }
+
+    private record Key(LocalDateTime expiresAt, long id) {
+    }
+}
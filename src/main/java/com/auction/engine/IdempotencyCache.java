@@ -0,0 +1,47 @@
+package com.auction.engine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bounded, concurrent map of idempotency keys to the outcome of the first request made with the key.
+ * The outcome is a future, so that a duplicate arriving while the first request is still running
+ * waits for it instead of repeating it.
+ * <p>
+ * Entries expire a fixed time after they were added and are evicted as described in {@link ExpiringMap}.
+ */
+public class IdempotencyCache<V> {
+
+    private final ExpiringMap<String, CompletableFuture<V>> entries;
+
+    public IdempotencyCache(int maxEntries, Duration ttl) {
+        this.entries = new ExpiringMap<>(maxEntries, ttl);
+    }
+
+    /**
+     * Registers the outcome of a new request under the key, unless a live entry exists already.
+     *
+     * @return the outcome of the earlier request made with the key, or null if the given one was registered
+     */
+    public CompletableFuture<V> putIfAbsent(String key, CompletableFuture<V> outcome) {
+        return entries.putIfAbsent(key, outcome);
+    }
+
+    /**
+     * @return the outcome registered under the key, or null if there is none or it expired
+     */
+    public CompletableFuture<V> get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Forgets the outcome of a request, only if it is still the one registered under the key
+     */
+    public void remove(String key, CompletableFuture<V> outcome) {
+        entries.remove(key, outcome);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,281 @@
+package com.auction.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory full-text index. Every term maps to a posting list of the ids of the documents containing it, sorted by id,
+ * together with the weighted number of occurrences of the term in each document. A search intersects the posting
+ * lists of its terms, shortest first, and ranks the documents containing all of them by tf-idf.
+ * <p>
+ * Posting lists are immutable and replaced on every change, so searches read them without locking while the rare
+ * writes are serialized. A search running during a change sees each posting list either before or after it.
+ * Copying a posting list for every document would make indexing many documents quadratic, so those are collected by
+ * a {@link Builder} and added at once.
+ */
+public class InvertedIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .thenComparingLong(Hit::documentId);
+
+    private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+    // Terms of every indexed document, for replacing or removing it
+    private final Map<Long, Set<String>> documentTerms = new ConcurrentHashMap<>();
+
+    /**
+     * Lower-cased words of the text, split at everything that is neither a letter nor a digit
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Indexes the document, replacing what was indexed for it before
+     */
+    public synchronized void put(long documentId, Field... fields) {
+        Map<String, Integer> weights = weigh(fields);
+        Set<String> previousTerms = documentTerms.getOrDefault(documentId, Set.of());
+        previousTerms.stream()
+                .filter(term -> !weights.containsKey(term))
+                .forEach(term -> removePosting(term, documentId));
+        weights.forEach((term, weight) -> postings.compute(term, (key, termPostings) ->
+                termPostings == null ? new Postings(new long[]{documentId}, new int[]{weight}) : termPostings.with(documentId, weight)));
+        documentTerms.put(documentId, Set.copyOf(weights.keySet()));
+    }
+
+    /**
+     * Indexes the documents of the builder, except those indexed since the builder read them, which were indexed
+     * from newer text. Each posting list is merged with the builder's once rather than copied for every document.
+     */
+    public synchronized void putAll(Builder builder) {
+        Set<Long> indexed = new HashSet<>();
+        builder.documentTerms.keySet().stream()
+                .filter(documentTerms::containsKey)
+                .forEach(indexed::add);
+        builder.postings.forEach((term, added) -> postings.compute(term, (key, termPostings) ->
+                merge(termPostings, added, indexed)));
+        builder.documentTerms.forEach(documentTerms::putIfAbsent);
+    }
+
+    public synchronized void remove(long documentId) {
+        Set<String> terms = documentTerms.remove(documentId);
+        if (terms != null) {
+            terms.forEach(term -> removePosting(term, documentId));
+        }
+    }
+
+    /**
+     * @return the documents containing every term of the query, best ranked first, or none if the query has no terms
+     */
+    public List<Hit> search(String query, int limit) {
+        List<Postings> queryPostings = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Postings termPostings = postings.get(term);
+            if (termPostings == null) {
+                return List.of();
+            }
+            queryPostings.add(termPostings);
+        }
+        if (queryPostings.isEmpty()) {
+            return List.of();
+        }
+        queryPostings.sort(Comparator.comparingInt(Postings::size));
+
+        int documents = Math.max(documentTerms.size(), queryPostings.get(queryPostings.size() - 1).size());
+        double[] idf = queryPostings.stream()
+                .mapToDouble(termPostings -> Math.log(1 + (double) documents / termPostings.size()))
+                .toArray();
+
+        // Smallest hits on top, to be dropped once better ones are found
+        PriorityQueue<Hit> best = new PriorityQueue<>(RANKING);
+        Postings shortest = queryPostings.get(0);
+        int[] positions = new int[queryPostings.size()];
+        candidates:
+        for (int candidate = 0; candidate < shortest.size(); candidate++) {
+            long documentId = shortest.ids()[candidate];
+            double score = shortest.weights()[candidate] * idf[0];
+            for (int i = 1; i < queryPostings.size(); i++) {
+                Postings termPostings = queryPostings.get(i);
+                // Candidates come in id order, so every list is searched from where the previous candidate was found
+                int position = Arrays.binarySearch(termPostings.ids(), positions[i], termPostings.size(), documentId);
+                if (position < 0) {
+                    positions[i] = -position - 1;
+                    if (positions[i] == termPostings.size()) {
+                        break candidates;
+                    }
+                    continue candidates;
+                }
+                positions[i] = position;
+                score += termPostings.weights()[position] * idf[i];
+            }
+            best.add(new Hit(documentId, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(RANKING.reversed());
+        return hits;
+    }
+
+    public int size() {
+        return documentTerms.size();
+    }
+
+    private static Map<String, Integer> weigh(Field... fields) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (Field field : fields) {
+            tokenize(field.text()).forEach(term -> weights.merge(term, field.weight(), Integer::sum));
+        }
+        return weights;
+    }
+
+    /**
+     * @return both posting lists in id order without the skipped documents of the added one, or null if that leaves none
+     */
+    private static Postings merge(Postings existing, GrowablePostings added, Set<Long> skipped) {
+        long[] existingIds = existing != null ? existing.ids() : new long[0];
+        int[] existingWeights = existing != null ? existing.weights() : new int[0];
+        long[] ids = new long[existingIds.length + added.size];
+        int[] weights = new int[ids.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < existingIds.length || j < added.size) {
+            if (j == added.size || (i < existingIds.length && existingIds[i] < added.ids[j])) {
+                ids[size] = existingIds[i];
+                weights[size++] = existingWeights[i++];
+            } else {
+                if (!skipped.contains(added.ids[j])) {
+                    ids[size] = added.ids[j];
+                    weights[size++] = added.weights[j];
+                }
+                j++;
+            }
+        }
+        if (size == 0) {
+            return null;
+        }
+        return size == ids.length
+                ? new Postings(ids, weights)
+                : new Postings(Arrays.copyOf(ids, size), Arrays.copyOf(weights, size));
+    }
+
+    private void removePosting(String term, long documentId) {
+        postings.computeIfPresent(term, (key, termPostings) -> termPostings.without(documentId));
+    }
+
+    /**
+     * Text of a document, each occurrence of a term in it counting the given weight
+     */
+    public record Field(String text, int weight) {
+    }
+
+    public record Hit(long documentId, double score) {
+    }
+
+    /**
+     * Collects documents for {@link #putAll}. They have to be added in ascending id order, so every posting list only
+     * grows at its end and is frozen once.
+     */
+    public static class Builder {
+
+        private final Map<String, GrowablePostings> postings = new HashMap<>();
+        private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+        private long lastDocumentId = Long.MIN_VALUE;
+
+        public Builder add(long documentId, Field... fields) {
+            if (documentId <= lastDocumentId) {
+                throw new IllegalArgumentException(String.format(
+                        "Document %d added after document %d, documents must be added in ascending id order",
+                        documentId, lastDocumentId));
+            }
+            lastDocumentId = documentId;
+            Map<String, Integer> weights = weigh(fields);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new GrowablePostings())
+                    .add(documentId, weight));
+            documentTerms.put(documentId, Set.copyOf(weights.keySet()));
+            return this;
+        }
+    }
+
+    private static class GrowablePostings {
+
+        private long[] ids = new long[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void add(long documentId, int weight) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ids[size] = documentId;
+            weights[size++] = weight;
+        }
+    }
+
+    private record Postings(long[] ids, int[] weights) {
+
+        int size() {
+            return ids.length;
+        }
+
+        Postings with(long documentId, int weight) {
+            int position = Arrays.binarySearch(ids, documentId);
+            if (position >= 0) {
+                int[] newWeights = weights.clone();
+                newWeights[position] = weight;
+                return new Postings(ids, newWeights);
+            }
+            int insertAt = -position - 1;
+            long[] newIds = new long[ids.length + 1];
+            int[] newWeights = new int[weights.length + 1];
+            System.arraycopy(ids, 0, newIds, 0, insertAt);
+            System.arraycopy(weights, 0, newWeights, 0, insertAt);
+            newIds[insertAt] = documentId;
+            newWeights[insertAt] = weight;
+            System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+            System.arraycopy(weights, insertAt, newWeights, insertAt + 1, weights.length - insertAt);
+            return new Postings(newIds, newWeights);
+        }
+
+        /**
+         * @return the postings without the document, or null once none is left, which removes the term
+         */
+        Postings without(long documentId) {
+            int position = Arrays.binarySearch(ids, documentId);
+            if (position < 0) {
+                return this;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            long[] newIds = new long[ids.length - 1];
+            int[] newWeights = new int[weights.length - 1];
+            System.arraycopy(ids, 0, newIds, 0, position);
+            System.arraycopy(weights, 0, newWeights, 0, position);
+            System.arraycopy(ids, position + 1, newIds, position, ids.length - position - 1);
+            System.arraycopy(weights, position + 1, newWeights, position, weights.length - position - 1);
+            return new Postings(newIds, newWeights);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.auction.engine;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed number of single threaded partitions, each draining its own bounded queue.
+ * Tasks with the same key always land on the same partition and run in submission order.
+ * A full queue rejects the task instead of blocking the caller.
+ */
+public class PartitionedExecutor {
+
+    private final ThreadPoolExecutor[] partitions;
+
+    public PartitionedExecutor(String name, int partitions, int queueCapacity) {
+        this.partitions = new ThreadPoolExecutor[partitions];
+        for (int i = 0; i < partitions; i++) {
+            String threadName = name + "-" + i;
+            this.partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), task -> {
+                        Thread thread = new Thread(task, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    /**
+     * @return false if the queue of the partition owning the key is full
+     */
+    public boolean trySubmit(long key, Runnable task) {
+        try {
+            partitions[Math.floorMod(key, partitions.length)].execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops taking tasks and waits for the queued ones to finish
+     */
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.shutdown();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        }
+    }
+}
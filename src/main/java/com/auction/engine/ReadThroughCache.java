@@ -0,0 +1,76 @@
+package com.auction.engine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded, concurrent read-through cache. A miss loads the value once, concurrent misses of the same key
+ * wait for that load instead of repeating it. Failed loads are not cached.
+ * <p>
+ * The value is reachable only through the entry holding its load, so invalidating a key while it is being loaded
+ * drops the result of that load as well: a value read before a change committed is never cached after it.
+ * Entries expire and are evicted as described in {@link ExpiringMap}.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final ExpiringMap<K, CompletableFuture<V>> entries;
+
+    public ReadThroughCache(int maxEntries, Duration ttl) {
+        this.entries = new ExpiringMap<>(maxEntries, ttl);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        CompletableFuture<V> existing = entries.get(key);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        CompletableFuture<V> value = new CompletableFuture<>();
+        existing = entries.putIfAbsent(key, value);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            V loaded = loader.apply(key);
+            value.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            entries.remove(key, value);
+            value.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the cached value, or null if there is none, it expired or it is still being loaded
+     */
+    public V getIfPresent(K key) {
+        CompletableFuture<V> value = entries.get(key);
+        if (value == null || !value.isDone() || value.isCompletedExceptionally()) {
+            return null;
+        }
+        return value.join();
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private V join(CompletableFuture<V> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            // The waiters of a failed load fail like the caller which loaded
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.auction.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel: deadlines are hashed by their tick into a fixed ring of buckets, and advancing the wheel
+ * only visits the buckets of the ticks that passed. Scheduling, rescheduling and cancelling cost O(1), advancing
+ * costs the number of passed ticks plus the keys found in their buckets, however many keys are scheduled.
+ * <p>
+ * A key has at most one deadline. Rescheduling or cancelling leaves the old entry in its bucket,
+ * where it is dropped once its bucket is visited.
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final List<List<Timeout<K>>> buckets;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules the key, replacing its previous deadline. A deadline in the past is due on the next advance.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        long tick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        deadlineTicks.put(key, tick);
+        bucket(tick).add(new Timeout<>(key, tick));
+    }
+
+    public synchronized void cancel(K key) {
+        deadlineTicks.remove(key);
+    }
+
+    /**
+     * Moves the wheel to the given time.
+     *
+     * @return the keys whose deadline passed, they are no longer scheduled
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<K> due = new ArrayList<>();
+        // Visiting every bucket once is enough, however far the wheel has to move
+        long lastTick = Math.min(nowTick, currentTick + buckets.size());
+        for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+            Iterator<Timeout<K>> timeouts = bucket(tick).iterator();
+            while (timeouts.hasNext()) {
+                Timeout<K> timeout = timeouts.next();
+                Long deadlineTick = deadlineTicks.get(timeout.key());
+                if (deadlineTick == null || deadlineTick != timeout.tick()) {
+                    timeouts.remove();
+                } else if (timeout.tick() <= nowTick) {
+                    timeouts.remove();
+                    deadlineTicks.remove(timeout.key());
+                    due.add(timeout.key());
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick);
+        return due;
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+
+    private List<Timeout<K>> bucket(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+    private record Timeout<K>(K key, long tick) {
+    }
+}
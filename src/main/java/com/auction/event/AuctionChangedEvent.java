@@ -0,0 +1,8 @@
+package com.auction.event;
+
+/**
+ * Published whenever the attributes of an auction (title, price, expiration, status) change outside of bidding.
+ * Carries the version of the auction the change was written with.
+ */
+public record AuctionChangedEvent(Long auctionId, long version) {
+}
@@ -0,0 +1,9 @@
+package com.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Relayed from the outbox when an auction was closed, by expiring or by an admin.
+ */
+public record AuctionClosedEvent(Long auctionId, LocalDateTime closedAt) {
+}
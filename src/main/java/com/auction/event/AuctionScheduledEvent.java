@@ -0,0 +1,10 @@
+package com.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when an auction is created or updated, with the status, expiration time and texts it was saved with.
+ */
+public record AuctionScheduledEvent(Long auctionId, String status, LocalDateTime expirationTime,
+                                    String title, String description) {
+}
@@ -0,0 +1,17 @@
+package com.auction.event;
+
+import com.auction.model.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a bid became the highest bid of an auction.
+ */
+public record BidAcceptedEvent(
+        Long auctionId,
+        Long bidId,
+        Long userId,
+        String username,
+        Money amount,
+        LocalDateTime bidTime) {
+}
@@ -0,0 +1,10 @@
+package com.auction.event;
+
+import java.util.Set;
+
+/**
+ * Published by the write-behind of the sequencer when a batch of accepted bids, and with it the highest bids and
+ * versions of their auctions, is stored.
+ */
+public record BidsPersistedEvent(Set<Long> auctionIds) {
+}
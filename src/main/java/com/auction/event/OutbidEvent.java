@@ -0,0 +1,14 @@
+package com.auction.event;
+
+import com.auction.model.Money;
+
+/**
+ * Relayed from the outbox when the highest bidder of an auction was outbid by another user.
+ */
+public record OutbidEvent(
+        Long auctionId,
+        Long userId,
+        Money amount,
+        Long outbidByBidId,
+        Money outbidByAmount) {
+}
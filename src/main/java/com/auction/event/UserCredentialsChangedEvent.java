@@ -0,0 +1,7 @@
+package com.auction.event;
+
+/**
+ * Published when the password of a user is set, which invalidates every verification of the former one.
+ */
+public record UserCredentialsChangedEvent(String username) {
+}
@@ -0,0 +1,14 @@
+package com.auction.exception;
+
+import lombok.Getter;
+
+@Getter
+public class BidQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public BidQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
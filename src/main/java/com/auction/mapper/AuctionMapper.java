@@ -1,10 +1,16 @@
 package com.auction.mapper;
 
+import com.auction.api.model.auction.AuctionEndingSoonResponse;
+import com.auction.api.model.auction.AuctionPriceUpdate;
 import com.auction.api.model.auction.AuctionRequest;
 import com.auction.api.model.auction.AuctionResponse;
 import com.auction.api.model.auction.AuctionStatusResponse;
 import com.auction.api.model.auction.AuctionUpdateRequest;
+import com.auction.event.BidAcceptedEvent;
 import com.auction.model.Auction;
+import com.auction.model.AuctionListing;
+import com.auction.model.AuctionPrice;
+import com.auction.model.AuctionSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -17,7 +23,16 @@ public interface AuctionMapper {
     @Mapping(source = "highestBidUser.username", target = "highestBidUsername")
     AuctionResponse toAuctionApiModel(Auction auctionEntity);
 
-    AuctionStatusResponse toAuctionStatusApiModel(Auction auction);
+    AuctionStatusResponse toAuctionStatusApiModel(AuctionSummary auctionSummary);
+
+    AuctionPriceUpdate toAuctionPriceUpdate(AuctionPrice auctionPrice);
+
+    AuctionEndingSoonResponse toAuctionEndingSoonResponse(AuctionListing auctionListing);
+
+    @Mapping(source = "amount", target = "highestBid")
+    @Mapping(source = "username", target = "highestBidUsername")
+    @Mapping(target = "status", constant = "OPEN")
+    AuctionPriceUpdate toAuctionPriceUpdate(BidAcceptedEvent bidAcceptedEvent);
 
     @Mapping(target = "highestBidUser", ignore = true)
     @Mapping(target = "auctionId", ignore = true)
@@ -26,6 +41,7 @@ public interface AuctionMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "currentPrice", ignore = true)
     Auction toAuctionEntity(AuctionRequest auctionRequest);
 
     @Mapping(target = "highestBidUser", ignore = true)
@@ -34,5 +50,6 @@ public interface AuctionMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "currentPrice", ignore = true)
     Auction toAuctionEntity(AuctionUpdateRequest auctionUpdateRequest);
 }
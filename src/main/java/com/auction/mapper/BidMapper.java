@@ -2,7 +2,11 @@ package com.auction.mapper;
 
 import com.auction.api.model.bid.BidRequest;
 import com.auction.api.model.bid.BidResponse;
+import com.auction.engine.AcceptedBid;
 import com.auction.model.Bid;
+import com.auction.model.BidHistoryEntry;
+import com.auction.model.BidIdempotencyKey;
+import com.auction.model.Money;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -18,9 +22,24 @@ public interface BidMapper {
     @Mapping(source = "user.userId", target = "userId")
     BidResponse toBidApiModel(Bid bidEntity);
 
+    BidResponse toBidApiModel(AcceptedBid acceptedBid);
+
+    BidResponse toBidApiModel(BidIdempotencyKey bidIdempotencyKey);
+
+    @Mapping(target = "auctionTitle", ignore = true)
+    BidResponse toBidApiModel(BidHistoryEntry bidHistoryEntry);
+
+    @Mapping(source = "idempotencyKey", target = "idempotencyKey")
+    @Mapping(target = "createdAt", ignore = true)
+    BidIdempotencyKey toBidIdempotencyKeyEntity(String idempotencyKey, BidResponse bidResponse);
+
     @Mapping(target = "auction", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "bidId", ignore = true)
     @Mapping(target = "bidTime", ignore = true)
     Bid toBidEntity(BidRequest bidRequest);
+
+    default Money centsToMoney(long cents) {
+        return Money.ofCents(cents);
+    }
 }
@@ -2,6 +2,7 @@ package com.auction.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -14,7 +15,10 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GeneratedColumn;
 
 import java.time.LocalDateTime;
 
@@ -39,8 +43,9 @@ public class Auction {
     @Column(name = "description", nullable = false)
     private String description;
 
-    @Column(name = "starting_price", nullable = false)
-    private Double startingPrice;
+    @Column(name = "starting_price", nullable = false, precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money startingPrice;
 
     @Column(name = "expiration_time", nullable = false)
     private LocalDateTime expirationTime;
@@ -48,12 +53,23 @@ public class Auction {
     @Column(name = "status", nullable = false)
     private String status;
 
-    @Column(name = "highest_bid")
-    private Double highestBid;
+    @Column(name = "highest_bid", precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money highestBid;
+
+    /**
+     * Highest bid, or starting price while there is none, computed by the database
+     */
+    @Column(name = "current_price", precision = 10, scale = 2)
+    @GeneratedColumn("COALESCE(highest_bid, starting_price)")
+    @Convert(converter = MoneyConverter.class)
+    private Money currentPrice;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "highest_bid_user_id")
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User highestBidUser;
 
     @CreationTimestamp
@@ -0,0 +1,31 @@
+package com.auction.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the auction listing, handed to clients as an opaque string. The listing continues after the auction
+ * with the given id, so fetching the next page costs the same however deep it is.
+ */
+public record AuctionCursor(long auctionId) {
+
+    private static final String PREFIX = "id:";
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + auctionId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AuctionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor " + cursor);
+            }
+            return new AuctionCursor(Long.parseLong(decoded.substring(PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException as well
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.auction.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Expiration time of an open auction, read without loading the auction
+ */
+public record AuctionDeadline(Long auctionId, LocalDateTime expirationTime) {
+}
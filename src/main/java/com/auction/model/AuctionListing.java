@@ -0,0 +1,13 @@
+package com.auction.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Open auction as listed by the time it ends, with its current price, read without loading the auction
+ */
+public record AuctionListing(Long auctionId, String title, LocalDateTime expirationTime, Money currentPrice) {
+
+    public AuctionListing withCurrentPrice(Money currentPrice) {
+        return new AuctionListing(auctionId, title, expirationTime, currentPrice);
+    }
+}
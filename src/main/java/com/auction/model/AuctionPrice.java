@@ -0,0 +1,7 @@
+package com.auction.model;
+
+/**
+ * Current price and status of an auction, read without loading the auction
+ */
+public record AuctionPrice(Long auctionId, Money highestBid, String highestBidUsername, String status) {
+}
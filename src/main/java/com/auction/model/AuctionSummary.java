@@ -0,0 +1,7 @@
+package com.auction.model;
+
+/**
+ * Columns of an auction shown in the auction listing, read without loading the auction
+ */
+public record AuctionSummary(Long auctionId, String title, Money highestBid, String status) {
+}
@@ -0,0 +1,7 @@
+package com.auction.model;
+
+/**
+ * Searchable texts of an auction, read without loading the auction
+ */
+public record AuctionText(Long auctionId, String title, String description) {
+}
@@ -0,0 +1,7 @@
+package com.auction.model;
+
+/**
+ * Version of an auction, read without loading the auction
+ */
+public record AuctionVersion(Long auctionId, long version) {
+}
@@ -1,6 +1,7 @@
 package com.auction.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -32,8 +33,9 @@ public class Bid {
     @JoinColumn(name = "user_id")
     private User user;
 
-    @Column(name = "amount", nullable = false)
-    private Double amount;
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
 
     @Column(name = "bid_time", nullable = false, updatable = false)
     private LocalDateTime bidTime;
@@ -0,0 +1,11 @@
+package com.auction.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of the bid history of an auction, selected with a constructor expression so that
+ * listing bids never loads the auction and user entities they reference
+ */
+public record BidHistoryEntry(Long bidId, Long auctionId, Long userId, String username, Money amount,
+                              LocalDateTime bidTime) {
+}
@@ -0,0 +1,68 @@
+package com.auction.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount of money as a whole number of cents. Serialized as a decimal number with two fractional digits,
+ * which is also how it is stored in the database.
+ * <p>
+ * Code on the bid path works on the raw cents and uses {@link #NO_AMOUNT} for a missing amount,
+ * so that comparing prices neither boxes nor allocates.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    /**
+     * Raw cents standing for a missing amount, lower than any real one.
+     */
+    public static final long NO_AMOUNT = -1L;
+
+    private static final int SCALE = 2;
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    @JsonCreator
+    public static Money of(BigDecimal amount) {
+        try {
+            return new Money(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    String.format("Amount %s must have at most %d decimal places", amount.toPlainString(), SCALE), e);
+        }
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public static long centsOrNone(Money money) {
+        return money != null ? money.cents : NO_AMOUNT;
+    }
+
+    public static String format(long cents) {
+        return BigDecimal.valueOf(cents, SCALE).toPlainString();
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return format(cents);
+    }
+}
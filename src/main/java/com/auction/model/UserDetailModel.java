@@ -10,11 +10,13 @@ import java.util.stream.Collectors;
 
 public class UserDetailModel implements UserDetails {
 
+    private final Long userId;
     private final String username;
     private final String password;
     private final List<GrantedAuthority> authorities;
 
     public UserDetailModel(User user) {
+        this.userId = user.getUserId();
         this.username = user.getUsername();
         this.password = user.getPassword();
 
@@ -24,6 +26,20 @@ public class UserDetailModel implements UserDetails {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * User without the password, authenticated by an access token or a cached verification
+     */
+    public UserDetailModel(Long userId, String username, List<GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.username = username;
+        this.password = null;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    public Long getUserId() {
+        return this.userId;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return this.authorities;
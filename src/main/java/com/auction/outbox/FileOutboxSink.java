@@ -0,0 +1,44 @@
+package com.auction.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends every relayed message as a line of JSON to a local file, a stand-in for a message broker
+ */
+@Component
+@ConditionalOnProperty(name = "auction.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxSink(ObjectMapper objectMapper, @Value("${auction.outbox.file.path}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+        List<String> lines = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            lines.add(toJson(message));
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.write(path, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+
+    private String toJson(OutboxMessage message) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+}
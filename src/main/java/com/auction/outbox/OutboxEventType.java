@@ -0,0 +1,20 @@
+package com.auction.outbox;
+
+public enum OutboxEventType {
+
+    /**
+     * A bid became the highest bid of an auction, the payload is a {@link com.auction.event.BidAcceptedEvent}
+     */
+    BID_ACCEPTED,
+
+    /**
+     * The former highest bidder of an auction was outbid, the payload is a {@link com.auction.event.OutbidEvent}.
+     * Never stored, derived from {@link #BID_ACCEPTED} when it is relayed.
+     */
+    OUTBID,
+
+    /**
+     * An auction was closed, the payload is a {@link com.auction.event.AuctionClosedEvent}
+     */
+    AUCTION_CLOSED
+}
@@ -0,0 +1,16 @@
+package com.auction.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event as handed to an {@link OutboxSink}. The payload is JSON and embedded as is when the message is serialized.
+ */
+public record OutboxMessage(long outboxId, OutboxEventType eventType, Long aggregateId,
+                            @JsonRawValue String payload, LocalDateTime createdAt) {
+
+    public OutboxMessage withPayload(String payload) {
+        return new OutboxMessage(outboxId, eventType, aggregateId, payload, createdAt);
+    }
+}
@@ -0,0 +1,147 @@
+package com.auction.outbox;
+
+import com.auction.event.AuctionClosedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.event.OutbidEvent;
+import com.auction.model.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Polls the outbox for unpublished events and hands them to the {@link OutboxSink} in batches, in outbox order.
+ * A batch is marked as published only after the sink took it, so every event is delivered at least once.
+ * <p>
+ * Every poll walks the unpublished events from the start, seeking past the last event of the previous batch.
+ * Starting over each time picks up events of transactions which committed after events with higher ids.
+ * Outbid events are derived here from the bid preceding an accepted bid, keeping that read out of the bid transaction.
+ * That bid is always stored by then, since the event of a bid is appended in or after the transaction storing the bid.
+ */
+@Component
+@EnableScheduling
+@Slf4j
+public class OutboxRelay {
+
+    private static final String SELECT_UNPUBLISHED_SQL =
+            "SELECT outbox_id, event_type, aggregate_id, payload, created_at FROM outbox " +
+            "WHERE published_at IS NULL AND outbox_id > ? ORDER BY outbox_id LIMIT ?";
+
+    private static final String MARK_PUBLISHED_SQL = "UPDATE outbox SET published_at = ? WHERE outbox_id IN (%s)";
+
+    private static final String PREVIOUS_BID_SQL =
+            "SELECT user_id, amount FROM bid WHERE auction_id = ? AND bid_id < ? ORDER BY bid_id DESC LIMIT 1";
+
+    private static final String PURGE_SQL = "DELETE FROM outbox WHERE published_at < ?";
+
+    private static final RowMapper<OutboxMessage> MESSAGE_ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("outbox_id"),
+            OutboxEventType.valueOf(rs.getString("event_type")),
+            rs.getLong("aggregate_id"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxSink outboxSink;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxSink outboxSink,
+                       @Value("${auction.outbox.batch-size:500}") int batchSize,
+                       @Value("${auction.outbox.retention-hours:24}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.outboxSink = outboxSink;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * @return the number of outbox events relayed
+     */
+    @Scheduled(fixedDelayString = "${auction.outbox.poll-interval-ms:500}")
+    public int relay() {
+        int relayed = 0;
+        long cursor = 0;
+        List<OutboxMessage> batch;
+        do {
+            batch = jdbcTemplate.query(SELECT_UNPUBLISHED_SQL, MESSAGE_ROW_MAPPER, cursor, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            try {
+                outboxSink.publish(expand(batch));
+            } catch (Exception e) {
+                log.warn("Outbox sink failed, {} events stay unpublished until the next poll", batch.size(), e);
+                break;
+            }
+            markPublished(batch);
+            relayed += batch.size();
+            cursor = batch.get(batch.size() - 1).outboxId();
+        } while (batch.size() == batchSize);
+        return relayed;
+    }
+
+    @Scheduled(cron = "${auction.outbox.purge-cron:0 30 * * * *}")
+    public int purgePublished() {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+    }
+
+    private void markPublished(List<OutboxMessage> batch) {
+        String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+        List<Object> arguments = new ArrayList<>(batch.size() + 1);
+        arguments.add(Timestamp.valueOf(LocalDateTime.now()));
+        batch.forEach(message -> arguments.add(message.outboxId()));
+        jdbcTemplate.update(String.format(MARK_PUBLISHED_SQL, placeholders), arguments.toArray());
+    }
+
+    private List<OutboxMessage> expand(List<OutboxMessage> batch) throws JsonProcessingException {
+        List<OutboxMessage> messages = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            switch (message.eventType()) {
+                case BID_ACCEPTED -> {
+                    messages.add(message);
+                    OutbidEvent outbid = findOutbid(objectMapper.readValue(message.payload(), BidAcceptedEvent.class));
+                    if (outbid != null) {
+                        messages.add(new OutboxMessage(message.outboxId(), OutboxEventType.OUTBID, message.aggregateId(),
+                                objectMapper.writeValueAsString(outbid), message.createdAt()));
+                    }
+                }
+                case AUCTION_CLOSED -> messages.add(message.withPayload(objectMapper.writeValueAsString(
+                        new AuctionClosedEvent(message.aggregateId(), message.createdAt()))));
+                case OUTBID -> messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Only accepted bids are stored, so the bid before an accepted bid was the highest bid it replaced
+     */
+    private OutbidEvent findOutbid(BidAcceptedEvent accepted) {
+        return jdbcTemplate.query(PREVIOUS_BID_SQL, (rs, rowNum) -> new OutbidEvent(
+                                accepted.auctionId(),
+                                rs.getLong("user_id"),
+                                Money.of(rs.getBigDecimal("amount")),
+                                accepted.bidId(),
+                                accepted.amount()),
+                        accepted.auctionId(), accepted.bidId())
+                .stream()
+                .filter(outbid -> !outbid.userId().equals(accepted.userId()))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.auction.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the events relayed from the outbox. Exactly one sink is active, selected with auction.outbox.sink.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes a batch of messages in outbox order. When this throws, the batch stays in the outbox and is
+     * offered again, so a sink may see a message more than once.
+     */
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
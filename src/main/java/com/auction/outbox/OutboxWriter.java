@@ -0,0 +1,89 @@
+package com.auction.outbox;
+
+import com.auction.engine.BidEngineMode;
+import com.auction.event.BidAcceptedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends domain events to the outbox table in the transaction of the caller, so an event is stored
+ * if and only if the change it describes commits. Costs one insert per event, relaying is left to {@link OutboxRelay}.
+ * <p>
+ * The sequencer and group-commit engines persist bids in batches outside of the caller's transaction, so they append
+ * the events of a batch themselves, in the transaction persisting its bids.
+ */
+@Component
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox (event_type, aggregate_id, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean bidEventsAppendedByEngine;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                        @Value("${auction.bid.engine:locking}") BidEngineMode engineMode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.bidEventsAppendedByEngine = switch (engineMode) {
+            case SEQUENCER, GROUP_COMMIT -> true;
+            case LOCKING, OPTIMISTIC, CONDITIONAL -> false;
+        };
+    }
+
+    /**
+     * Not a transactional listener on purpose, the event is written in the transaction of the bid
+     */
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        if (bidEventsAppendedByEngine) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_SQL, OutboxEventType.BID_ACCEPTED.name(), event.auctionId(), toJson(event),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Appends the events of a batch of bids persisted by the sequencer's write-behind stage or by a group commit
+     */
+    public void appendBidsAccepted(List<BidAcceptedEvent> events) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, OutboxEventType.BID_ACCEPTED.name());
+            ps.setLong(2, event.auctionId());
+            ps.setString(3, toJson(event));
+            ps.setTimestamp(4, createdAt);
+        });
+    }
+
+    /**
+     * The payload is filled in when the event is relayed, the auction id and the time of the close are all it needs
+     */
+    public void appendAuctionsClosed(Collection<Long> auctionIds, LocalDateTime closedAt) {
+        Timestamp createdAt = Timestamp.valueOf(closedAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, auctionIds, auctionIds.size(), (ps, auctionId) -> {
+            ps.setString(1, OutboxEventType.AUCTION_CLOSED.name());
+            ps.setLong(2, auctionId);
+            ps.setString(3, null);
+            ps.setTimestamp(4, createdAt);
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload " + payload, e);
+        }
+    }
+}
@@ -1,14 +1,27 @@
 package com.auction.repository;
 
 import com.auction.model.Auction;
+import com.auction.model.AuctionDeadline;
+import com.auction.model.AuctionListing;
+import com.auction.model.AuctionPrice;
+import com.auction.model.AuctionSummary;
+import com.auction.model.AuctionText;
+import com.auction.model.AuctionVersion;
+import com.auction.model.Money;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuctionRepository extends JpaRepository<Auction, Long> {
@@ -17,6 +30,133 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Auction> findById(Long auctionId);
 
+    /**
+     * Plain read of an auction, without the write lock taken by {@link #findById(Long)}
+     */
+    Optional<Auction> findByAuctionId(Long auctionId);
+
+    /**
+     * Plain read of an auction together with its highest bidder, for mapping it outside of a transaction
+     */
+    @EntityGraph(attributePaths = "highestBidUser")
+    Optional<Auction> findWithHighestBidUserByAuctionId(Long auctionId);
+
+    /**
+     * Version of an auction, which changes with every change of the auction, read without loading the auction
+     */
+    @Query("SELECT COALESCE(a.version, 0) FROM Auction a WHERE a.auctionId = :auctionId")
+    Optional<Long> findVersionByAuctionId(Long auctionId);
+
+    @Query("SELECT new com.auction.model.AuctionVersion(a.auctionId, COALESCE(a.version, 0)) FROM Auction a " +
+            "WHERE a.auctionId IN :auctionIds")
+    List<AuctionVersion> findVersionsByAuctionIdIn(Collection<Long> auctionIds);
+
+    /**
+     * Current price of an auction, read along with the username of its highest bidder only
+     */
+    @Query("SELECT new com.auction.model.AuctionPrice(a.auctionId, a.highestBid, u.username, a.status) " +
+            "FROM Auction a LEFT JOIN a.highestBidUser u WHERE a.auctionId = :auctionId")
+    Optional<AuctionPrice> findAuctionPrice(Long auctionId);
+
+    /**
+     * Auctions following the given one in auction_id order, read along the primary key without counting them
+     * and with the columns of the listing only
+     */
+    @Query("SELECT new com.auction.model.AuctionSummary(a.auctionId, a.title, a.highestBid, a.status) " +
+            "FROM Auction a WHERE a.auctionId > :afterAuctionId ORDER BY a.auctionId")
+    List<AuctionSummary> findAuctionSummariesAfter(Long afterAuctionId, Limit limit);
+
+    /**
+     * Open auction as listed by the time it ends, with its current price
+     */
+    @Query("SELECT new com.auction.model.AuctionListing(a.auctionId, a.title, a.expirationTime, a.currentPrice) " +
+            "FROM Auction a WHERE a.auctionId = :auctionId AND a.status = 'OPEN'")
+    Optional<AuctionListing> findOpenAuctionListing(Long auctionId);
+
+    @Query("SELECT new com.auction.model.AuctionListing(a.auctionId, a.title, a.expirationTime, a.currentPrice) " +
+            "FROM Auction a WHERE a.status = 'OPEN' AND a.expirationTime > :now")
+    List<AuctionListing> findOpenAuctionListings(LocalDateTime now);
+
+    /**
+     * Title and description of the auctions following the given one in auction_id order
+     */
+    @Query("SELECT new com.auction.model.AuctionText(a.auctionId, a.title, a.description) FROM Auction a " +
+            "WHERE a.auctionId > :afterAuctionId ORDER BY a.auctionId")
+    List<AuctionText> findAuctionTextsAfter(Long afterAuctionId, Limit limit);
+
+    /**
+     * Auctions matching all of the given ranges, read along with the columns of the listing only. Every filter is
+     * a range with bounds that are never null, so the query stays sargable and the index matching the sort order
+     * or the narrowest range can be used, rather than scanning the table for "parameter is null or matches" checks.
+     */
+    @Query(value = "SELECT new com.auction.model.AuctionSummary(a.auctionId, a.title, a.highestBid, a.status) " +
+            "FROM Auction a WHERE a.status IN :statuses " +
+            "AND a.expirationTime >= :expiresFrom AND a.expirationTime < :expiresTo " +
+            "AND a.currentPrice >= :minPrice AND a.currentPrice <= :maxPrice " +
+            "AND a.title LIKE :titlePattern ESCAPE '\\'",
+            countQuery = "SELECT COUNT(a) FROM Auction a WHERE a.status IN :statuses " +
+                    "AND a.expirationTime >= :expiresFrom AND a.expirationTime < :expiresTo " +
+                    "AND a.currentPrice >= :minPrice AND a.currentPrice <= :maxPrice " +
+                    "AND a.title LIKE :titlePattern ESCAPE '\\'")
+    Page<AuctionSummary> searchAuctions(Collection<String> statuses, LocalDateTime expiresFrom, LocalDateTime expiresTo,
+                                        Money minPrice, Money maxPrice, String titlePattern, Pageable pageable);
+
+    /**
+     * Makes the given amount the highest bid of an open, unexpired auction, but only if it beats the current
+     * highest bid (or the starting price when there is none yet). Returns 1 if the bid won, 0 otherwise.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE auction SET highest_bid = :amount, highest_bid_user_id = :userId, updated_at = :now, " +
+            "version = COALESCE(version, 0) + 1 " +
+            "WHERE auction_id = :auctionId AND status = 'OPEN' AND expiration_time > :now " +
+            "AND ((highest_bid IS NULL AND starting_price <= :amount) OR highest_bid < :amount)", nativeQuery = true)
+    int updateHighestBidIfHigher(Long auctionId, Long userId, BigDecimal amount, LocalDateTime now);
+
+    /**
+     * Closes an auction, but only if it is still open and expired by now. Returns 1 if it was closed, 0 otherwise.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE auction SET status = 'CLOSED', updated_at = :now, version = COALESCE(version, 0) + 1 " +
+            "WHERE auction_id = :auctionId AND status = 'OPEN' AND expiration_time <= :now", nativeQuery = true)
+    int closeIfExpired(Long auctionId, LocalDateTime now);
+
+    @Query("SELECT new com.auction.model.AuctionDeadline(a.auctionId, a.expirationTime) FROM Auction a WHERE a.status = 'OPEN'")
+    List<AuctionDeadline> findOpenAuctionDeadlines();
+
+    /**
+     * Locks those of the given auctions which are still open and expired before now, and returns their ids
+     */
+    @Query(value = "SELECT auction_id FROM auction " +
+            "WHERE auction_id IN (:auctionIds) AND status = 'OPEN' AND expiration_time < :now FOR UPDATE", nativeQuery = true)
+    List<Long> lockExpired(Collection<Long> auctionIds, LocalDateTime now);
+
+    /**
+     * Closes those of the given auctions which are still open and expired before now. Returns the number of closed auctions.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE auction SET status = 'CLOSED', updated_at = :now, version = COALESCE(version, 0) + 1 " +
+            "WHERE auction_id IN (:auctionIds) AND status = 'OPEN' AND expiration_time < :now", nativeQuery = true)
+    int closeExpired(Collection<Long> auctionIds, LocalDateTime now);
+
+    /**
+     * First chunk of open auctions expired before now, in (expiration_time, auction_id) order,
+     * read along the (status, expiration_time) index. Only auctions whose id modulo slices is the given slice are read.
+     */
+    @Query("SELECT new com.auction.model.AuctionDeadline(a.auctionId, a.expirationTime) FROM Auction a " +
+            "WHERE a.status = 'OPEN' AND a.expirationTime < :now AND MOD(a.auctionId, :slices) = :slice " +
+            "ORDER BY a.expirationTime, a.auctionId")
+    List<AuctionDeadline> findExpiredDeadlines(LocalDateTime now, int slices, int slice, Limit limit);
+
+    /**
+     * Next chunk of open auctions expired before now, seeking past the last auction of the previous chunk
+     */
+    @Query("SELECT new com.auction.model.AuctionDeadline(a.auctionId, a.expirationTime) FROM Auction a " +
+            "WHERE a.status = 'OPEN' AND a.expirationTime < :now AND MOD(a.auctionId, :slices) = :slice " +
+            "AND (a.expirationTime > :afterTime OR (a.expirationTime = :afterTime AND a.auctionId > :afterId)) " +
+            "ORDER BY a.expirationTime, a.auctionId")
+    List<AuctionDeadline> findExpiredDeadlinesAfter(LocalDateTime now, int slices, int slice,
+                                                    LocalDateTime afterTime, Long afterId, Limit limit);
+
     @Query("SELECT a FROM Auction a WHERE a.expirationTime < :now AND a.status != 'CLOSED'")
     Page<Auction> findExpiredAuctions(LocalDateTime now, Pageable pageable);
 
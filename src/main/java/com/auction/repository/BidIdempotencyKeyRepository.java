@@ -0,0 +1,15 @@
+package com.auction.repository;
+
+import com.auction.model.BidIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface BidIdempotencyKeyRepository extends JpaRepository<BidIdempotencyKey, String> {
+
+    @Modifying
+    @Query("DELETE FROM BidIdempotencyKey k WHERE k.createdAt < :threshold")
+    int deleteCreatedBefore(LocalDateTime threshold);
+}
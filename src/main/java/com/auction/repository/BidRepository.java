@@ -1,8 +1,22 @@
 package com.auction.repository;
 
 import com.auction.model.Bid;
+import com.auction.model.BidHistoryEntry;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface BidRepository extends JpaRepository<Bid, Long> {
-}
 
+    /**
+     * Newest bids of an auction placed before the given bid, served by the (auction_id, bid_id) index.
+     * Seeking past the last bid of the previous page keeps every page as cheap as the first one.
+     */
+    @Query("SELECT new com.auction.model.BidHistoryEntry(b.bidId, b.auction.auctionId, u.userId, u.username, b.amount, b.bidTime) " +
+            "FROM Bid b JOIN b.user u " +
+            "WHERE b.auction.auctionId = :auctionId AND b.bidId < :beforeBidId " +
+            "ORDER BY b.bidId DESC")
+    List<BidHistoryEntry> findBidHistory(Long auctionId, Long beforeBidId, Limit limit);
+}
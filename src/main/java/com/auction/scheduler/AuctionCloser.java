@@ -0,0 +1,93 @@
+package com.auction.scheduler;
+
+import com.auction.engine.TimingWheel;
+import com.auction.event.AuctionChangedEvent;
+import com.auction.event.AuctionScheduledEvent;
+import com.auction.model.AuctionDeadline;
+import com.auction.model.AuctionStatus;
+import com.auction.outbox.OutboxWriter;
+import com.auction.repository.AuctionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Closes every open auction within one tick of its expiration time. Expiration times are kept in a
+ * timing wheel, loaded when the application starts and kept up to date as auctions are created and updated,
+ * so a tick only touches the auctions expiring in it instead of scanning the table.
+ * <p>
+ * Auctions missed here, e.g. because their close failed, are caught by the sweep of {@link AuctionScheduler}.
+ */
+@Component
+@EnableScheduling
+@Slf4j
+public class AuctionCloser {
+
+    private final AuctionRepository auctionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final TimingWheel<Long> deadlines;
+
+    public AuctionCloser(AuctionRepository auctionRepository, ApplicationEventPublisher eventPublisher, OutboxWriter outboxWriter,
+                         @Value("${auction.closer.tick-ms:1000}") long tickMillis,
+                         @Value("${auction.closer.wheel-size:512}") int wheelSize) {
+        this.auctionRepository = auctionRepository;
+        this.eventPublisher = eventPublisher;
+        this.outboxWriter = outboxWriter;
+        this.deadlines = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDeadlines() {
+        List<AuctionDeadline> openAuctions = auctionRepository.findOpenAuctionDeadlines();
+        openAuctions.forEach(auction -> deadlines.schedule(auction.auctionId(), toMillis(auction.expirationTime())));
+        log.info("Scheduled closing of {} open auctions", openAuctions.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionScheduled(AuctionScheduledEvent event) {
+        if (AuctionStatus.OPEN.name().equals(event.status()) && event.expirationTime() != null) {
+            deadlines.schedule(event.auctionId(), toMillis(event.expirationTime()));
+        } else {
+            deadlines.cancel(event.auctionId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auction.closer.tick-ms:1000}")
+    @Transactional
+    public void closeDueAuctions() {
+        List<Long> dueAuctionIds = deadlines.advance(System.currentTimeMillis());
+        if (dueAuctionIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> closedAuctionIds = new ArrayList<>(dueAuctionIds.size());
+        for (Long auctionId : dueAuctionIds) {
+            // Guarded, so that an auction closed or extended meanwhile is left alone
+            if (auctionRepository.closeIfExpired(auctionId, now) == 1) {
+                closedAuctionIds.add(auctionId);
+                eventPublisher.publishEvent(new AuctionChangedEvent(auctionId,
+                        auctionRepository.findVersionByAuctionId(auctionId).orElse(0L)));
+            }
+        }
+        outboxWriter.appendAuctionsClosed(closedAuctionIds, now);
+        log.debug("Closed auctions due by {}: {}", now, closedAuctionIds);
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,33 +1,111 @@
 package com.auction.scheduler;
 
+import com.auction.batch.AuctionCloseJobRunner;
+import com.auction.engine.AuctionBulkCloser;
+import com.auction.engine.AuctionSweepMode;
+import com.auction.engine.CloserLeases;
+import com.auction.event.AuctionChangedEvent;
 import com.auction.model.Auction;
+import com.auction.outbox.OutboxWriter;
 import com.auction.repository.AuctionRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
 @Component
 @EnableScheduling
-@RequiredArgsConstructor
+@Slf4j
 public class AuctionScheduler {
 
     private final AuctionRepository auctionRepository;
+    private final AuctionBulkCloser auctionBulkCloser;
+    private final AuctionCloseJobRunner auctionCloseJobRunner;
+    private final CloserLeases closerLeases;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final AuctionSweepMode sweepMode;
+    private final boolean leasing;
+
+    public AuctionScheduler(AuctionRepository auctionRepository, AuctionBulkCloser auctionBulkCloser,
+                            AuctionCloseJobRunner auctionCloseJobRunner, CloserLeases closerLeases,
+                            TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                            OutboxWriter outboxWriter,
+                            @Value("${auction.closer.sweep-mode:bulk}") AuctionSweepMode sweepMode,
+                            @Value("${auction.closer.lease.enabled:false}") boolean leasing) {
+        this.auctionRepository = auctionRepository;
+        this.auctionBulkCloser = auctionBulkCloser;
+        this.auctionCloseJobRunner = auctionCloseJobRunner;
+        this.closerLeases = closerLeases;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.outboxWriter = outboxWriter;
+        this.sweepMode = sweepMode;
+        this.leasing = leasing;
+    }
 
     /**
-     * Cron scheduler runs every 5 minutes and processes 100 auctions at a time,
-     * as the number of expired auctions can be large
+     * Reconciliation sweep behind {@link AuctionCloser}, which closes auctions as they expire.
+     * Catches auctions it missed, which can be many after an outage.
      */
-    @Scheduled(cron = "0 */5 * * * *")
-    @Transactional
+    @Scheduled(cron = "${auction.closer.sweep-cron:0 0 * * * *}")
     public void closeExpiredAuctions() {
         LocalDateTime now = LocalDateTime.now();
+        switch (sweepMode) {
+            case BULK -> {
+                if (leasing) {
+                    closeExpiredAuctionsOfClaimedSlices(now);
+                } else {
+                    auctionBulkCloser.closeExpired(now);
+                }
+            }
+            case BATCH -> runCloseJob(now);
+            case ENTITY -> transactionTemplate.executeWithoutResult(status -> closeExpiredAuctionEntities(now));
+        }
+    }
+
+    /**
+     * Sweeps every slice this instance manages to claim. Instances sweeping at the same time claim different
+     * slices, so each expired auction is closed by one of them and more instances finish the sweep sooner.
+     */
+    private void closeExpiredAuctionsOfClaimedSlices(LocalDateTime now) {
+        int sweptSlices = 0;
+        for (int slice : closerLeases.shuffledSlices()) {
+            if (!closerLeases.tryClaim(slice)) {
+                continue;
+            }
+            try {
+                auctionBulkCloser.closeExpired(now, closerLeases.slices(), slice);
+                sweptSlices++;
+            } finally {
+                closerLeases.release(slice);
+            }
+        }
+        log.info("Swept {} of {} slices as {}", sweptSlices, closerLeases.slices(), closerLeases.owner());
+    }
+
+    private void runCloseJob(LocalDateTime now) {
+        try {
+            auctionCloseJobRunner.run(now);
+        } catch (Exception e) {
+            log.error("Auction closing job failed to run", e);
+        }
+    }
+
+    /**
+     * Processes 100 auctions at a time in a single transaction. Closed auctions drop out of the query,
+     * so the next 100 are always found on the first page.
+     */
+    private void closeExpiredAuctionEntities(LocalDateTime now) {
         Pageable pageable = PageRequest.of(0, 100);
 
         Page<Auction> expiredAuctionsPage;
@@ -35,9 +113,12 @@ public class AuctionScheduler {
             expiredAuctionsPage = auctionRepository.findExpiredAuctions(now, pageable);
             expiredAuctionsPage.getContent().forEach(auction -> {
                 auction.setStatus("CLOSED");
-                auctionRepository.save(auction);
+                // Flushed right away, so that the event carries the version the change was written with
+                auctionRepository.saveAndFlush(auction);
+                eventPublisher.publishEvent(new AuctionChangedEvent(auction.getAuctionId(), auction.getVersion()));
             });
-            pageable = pageable.next();
+            outboxWriter.appendAuctionsClosed(
+                    expiredAuctionsPage.getContent().stream().map(Auction::getAuctionId).toList(), now);
         } while (expiredAuctionsPage.hasNext());
     }
 }
@@ -0,0 +1,28 @@
+package com.auction.scheduler;
+
+import com.auction.service.BidIdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@Slf4j
+public class BidIdempotencyKeyScheduler {
+
+    private final BidIdempotencyService bidIdempotencyService;
+
+    /**
+     * Cron scheduler runs every hour and deletes stored bid responses past their retention
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    @Transactional
+    public void purgeExpiredIdempotencyKeys() {
+        int purged = bidIdempotencyService.purgeExpiredKeys();
+        log.info("Purged {} expired bid idempotency keys", purged);
+    }
+}
@@ -0,0 +1,92 @@
+package com.auction.service;
+
+import com.auction.api.model.auction.AuctionEndingSoonResponse;
+import com.auction.engine.ExpiryIndex;
+import com.auction.event.AuctionChangedEvent;
+import com.auction.event.AuctionScheduledEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.mapper.AuctionMapper;
+import com.auction.model.AuctionListing;
+import com.auction.model.AuctionStatus;
+import com.auction.repository.AuctionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Open auctions ending soonest, with their current prices, served from an {@link ExpiryIndex} without a query per
+ * request. The index is loaded on startup and follows the auctions from their events: created and updated auctions
+ * are read once, accepted bids raise the price straight from the event and closed auctions are dropped.
+ */
+@Service
+@Slf4j
+public class AuctionEndingSoonService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionMapper auctionMapper;
+    private final ExpiryIndex<AuctionListing> endingSoon = new ExpiryIndex<>();
+
+    public AuctionEndingSoonService(AuctionRepository auctionRepository) {
+        this.auctionRepository = auctionRepository;
+        this.auctionMapper = AuctionMapper.INSTANCE;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOpenAuctions() {
+        // Auctions changed while loading are indexed by their events, which are newer than this read
+        auctionRepository.findOpenAuctionListings(LocalDateTime.now())
+                .forEach(auction -> endingSoon.putIfAbsent(auction.auctionId(), auction.expirationTime(), auction));
+        log.info("Listed {} open auctions by their end", endingSoon.size());
+    }
+
+    /**
+     * Expired auctions are skipped whether or not they were closed yet
+     */
+    public List<AuctionEndingSoonResponse> getEndingSoon(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(String.format("Limit must be between 1 and %d", MAX_LIMIT));
+        }
+        return endingSoon.next(LocalDateTime.now(), limit).stream()
+                .map(auctionMapper::toAuctionEndingSoonResponse)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionScheduled(AuctionScheduledEvent event) {
+        if (!AuctionStatus.OPEN.name().equals(event.status())) {
+            endingSoon.remove(event.auctionId());
+            return;
+        }
+        auctionRepository.findOpenAuctionListing(event.auctionId()).ifPresentOrElse(
+                auction -> endingSoon.put(auction.auctionId(), auction.expirationTime(), auction),
+                () -> endingSoon.remove(event.auctionId()));
+    }
+
+    /**
+     * Events of bids may come out of order, so the price only ever rises
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        endingSoon.update(event.auctionId(), auction -> auction.currentPrice() == null
+                || auction.currentPrice().compareTo(event.amount()) < 0 ? auction.withCurrentPrice(event.amount()) : auction);
+    }
+
+    /**
+     * The closers change expired auctions only, which are closed by then. Other changes come with their own
+     * {@link AuctionScheduledEvent}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        AuctionListing auction = endingSoon.get(event.auctionId());
+        if (auction != null && !auction.expirationTime().isAfter(LocalDateTime.now())) {
+            endingSoon.remove(event.auctionId());
+        }
+    }
+}
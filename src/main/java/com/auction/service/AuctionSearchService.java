@@ -0,0 +1,97 @@
+package com.auction.service;
+
+import com.auction.api.model.auction.AuctionSearchHit;
+import com.auction.engine.InvertedIndex;
+import com.auction.event.AuctionScheduledEvent;
+import com.auction.model.AuctionText;
+import com.auction.repository.AuctionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyword search over the titles and descriptions of all auctions, served from an {@link InvertedIndex} without
+ * touching the database. The index is built once on startup and follows every auction created or updated afterwards.
+ * A word in the title weighs as much as three in the description.
+ */
+@Service
+@Slf4j
+public class AuctionSearchService {
+
+    private static final int MAX_RESULTS = 100;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int BUILD_PAGE_SIZE = 1000;
+
+    private final AuctionRepository auctionRepository;
+    private final InvertedIndex index = new InvertedIndex();
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+
+    public AuctionSearchService(AuctionRepository auctionRepository) {
+        this.auctionRepository = auctionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        InvertedIndex.Builder builder = new InvertedIndex.Builder();
+        Map<Long, String> builtTitles = new HashMap<>();
+        long afterAuctionId = 0;
+        List<AuctionText> page;
+        do {
+            page = auctionRepository.findAuctionTextsAfter(afterAuctionId, Limit.of(BUILD_PAGE_SIZE));
+            for (AuctionText auction : page) {
+                builder.add(auction.auctionId(), fields(auction.title(), auction.description()));
+                builtTitles.put(auction.auctionId(), auction.title());
+                afterAuctionId = auction.auctionId();
+            }
+        } while (page.size() == BUILD_PAGE_SIZE);
+        indexAll(builder, builtTitles);
+        log.info("Indexed {} auctions for keyword search", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionScheduled(AuctionScheduledEvent event) {
+        index(event.auctionId(), event.title(), event.description());
+    }
+
+    /**
+     * Auctions containing every word of the query, in title or description, best matches first
+     */
+    public List<AuctionSearchHit> search(String query, int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException(String.format("Limit must be between 1 and %d", MAX_RESULTS));
+        }
+        if (InvertedIndex.tokenize(query).isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word");
+        }
+        return index.search(query, limit).stream()
+                .map(hit -> new AuctionSearchHit(hit.documentId(), titles.get(hit.documentId())))
+                .toList();
+    }
+
+    private synchronized void index(Long auctionId, String title, String description) {
+        titles.put(auctionId, title);
+        index.put(auctionId, fields(title, description));
+    }
+
+    /**
+     * Auctions changed while the index is being built are indexed by their events, which are newer than the build's read
+     */
+    private synchronized void indexAll(InvertedIndex.Builder builder, Map<Long, String> builtTitles) {
+        index.putAll(builder);
+        builtTitles.forEach(titles::putIfAbsent);
+    }
+
+    private static InvertedIndex.Field[] fields(String title, String description) {
+        return new InvertedIndex.Field[]{
+                new InvertedIndex.Field(title, TITLE_WEIGHT), new InvertedIndex.Field(description, DESCRIPTION_WEIGHT)};
+    }
+}
@@ -2,26 +2,47 @@ package com.auction.service;
 
 import com.auction.api.model.auction.AuctionRequest;
 import com.auction.api.model.auction.AuctionResponse;
+import com.auction.api.model.auction.AuctionSearchRequest;
+import com.auction.api.model.auction.AuctionSliceResponse;
+import com.auction.api.model.auction.AuctionSort;
 import com.auction.api.model.auction.AuctionStatusResponse;
 import com.auction.api.model.auction.AuctionUpdateRequest;
+import com.auction.engine.ReadThroughCache;
+import com.auction.event.AuctionChangedEvent;
+import com.auction.event.AuctionScheduledEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.event.BidsPersistedEvent;
 import com.auction.exception.AuctionCreationException;
 import com.auction.exception.AuctionModificationException;
 import com.auction.exception.ResourceNotFoundException;
 import com.auction.mapper.AuctionMapper;
 import com.auction.model.Auction;
+import com.auction.model.AuctionCursor;
+import com.auction.model.AuctionStatus;
+import com.auction.model.AuctionSummary;
+import com.auction.model.Money;
+import com.auction.outbox.OutboxWriter;
 import com.auction.repository.AuctionRepository;
 import jakarta.annotation.PostConstruct;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -29,14 +50,32 @@ import java.util.function.Consumer;
 @Slf4j
 public class AuctionService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final List<String> ALL_STATUSES = List.of(AuctionStatus.OPEN.name(), AuctionStatus.CLOSED.name());
+    private static final LocalDateTime EARLIEST_EXPIRATION = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST_EXPIRATION = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final Money LOWEST_PRICE = Money.ofCents(0);
+    // Largest amount of a DECIMAL(10, 2) column
+    private static final Money HIGHEST_PRICE = Money.of("99999999.99");
+
     private final AuctionRepository auctionRepository;
     private final AuctionMapper auctionMapper;
     private final SequenceService sequenceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final ReadThroughCache<Long, AuctionResponse> auctionCache;
 
-    public AuctionService(AuctionRepository auctionRepository, SequenceService sequenceService) {
+    public AuctionService(AuctionRepository auctionRepository, SequenceService sequenceService,
+                          ApplicationEventPublisher eventPublisher, OutboxWriter outboxWriter,
+                          @Value("${auction.cache.enabled:true}") boolean cacheEnabled,
+                          @Value("${auction.cache.max-entries:10000}") int cacheMaxEntries,
+                          @Value("${auction.cache.ttl-seconds:30}") long cacheTtlSeconds) {
         this.auctionRepository = auctionRepository;
         this.auctionMapper = AuctionMapper.INSTANCE;
         this.sequenceService = sequenceService;
+        this.eventPublisher = eventPublisher;
+        this.outboxWriter = outboxWriter;
+        this.auctionCache = cacheEnabled ? new ReadThroughCache<>(cacheMaxEntries, Duration.ofSeconds(cacheTtlSeconds)) : null;
     }
 
     public AuctionResponse createAuction(AuctionRequest auctionRequest) {
@@ -46,19 +85,40 @@ public class AuctionService {
                 .map(auctionRepository::save)
                 .map(savedAuction -> {
                     log.info("Created auction with title: {}", auctionRequest.getTitle());
+                    publishAuctionScheduled(savedAuction);
                     return auctionMapper.toAuctionApiModel(savedAuction);
                 })
                 .orElseThrow(() -> new AuctionCreationException("Error creating auction"));
     }
 
+    /**
+     * Served from the cache, which is invalidated after changes of the auction committed. Reads inside of a transaction
+     * bypass it, as they may see changes of their own transaction which aren't committed yet.
+     */
     public AuctionResponse getAuctionById(Long auctionId) {
         log.info("Get {} with id: {}", AuctionResponse.class.getSimpleName(), auctionId);
-        return auctionRepository.findById(auctionId)
-                .map(auctionMapper::toAuctionApiModel)
+        if (auctionCache == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loadAuction(auctionId);
+        }
+        return auctionCache.get(auctionId, this::loadAuction);
+    }
+
+    /**
+     * Version of the auction, taken from the cache when it holds the auction and read on its own otherwise
+     */
+    public long getAuctionVersion(Long auctionId) {
+        if (auctionCache != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            AuctionResponse cached = auctionCache.getIfPresent(auctionId);
+            if (cached != null) {
+                return cached.getVersion() != null ? cached.getVersion() : 0L;
+            }
+        }
+        return auctionRepository.findVersionByAuctionId(auctionId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format("Auction with id %d not found", auctionId)));
     }
 
+    @Transactional
     public AuctionResponse updateAuction(Long auctionId, AuctionUpdateRequest auctionUpdateRequest) {
         verifyAdminRole();
         log.info("Update {} with id: {}", AuctionResponse.class.getSimpleName(), auctionId);
@@ -66,20 +126,140 @@ public class AuctionService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format("Auction with id %d not found", auctionId)));
 
+        boolean wasOpen = "OPEN".equals(auction.getStatus());
         updateAuction(auction, auctionUpdateRequest);
         return Optional.of(auction)
-                .map(auctionRepository::save)
+                // Flushed right away, so that the event carries the version the change was written with
+                .map(auctionRepository::saveAndFlush)
+                .map(updatedAuction -> {
+                    if (wasOpen && "CLOSED".equals(updatedAuction.getStatus())) {
+                        outboxWriter.appendAuctionsClosed(List.of(updatedAuction.getAuctionId()), updatedAuction.getUpdatedAt());
+                    }
+                    eventPublisher.publishEvent(new AuctionChangedEvent(updatedAuction.getAuctionId(), updatedAuction.getVersion()));
+                    publishAuctionScheduled(updatedAuction);
+                    return updatedAuction;
+                })
                 .map(auctionMapper::toAuctionApiModel)
                 .orElseThrow(() -> new RuntimeException("Error updating auction"));
     }
 
+    @Transactional(readOnly = true)
     public Page<AuctionStatusResponse> getAllAuctions(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Auction> auctionPage = auctionRepository.findAll(pageable);
+        return getAllAuctions(page, size, new AuctionSearchRequest());
+    }
+
+    /**
+     * Filters left out of the search are widened to ranges covering every auction, see
+     * {@link AuctionRepository#searchAuctions}
+     */
+    @Transactional(readOnly = true)
+    public Page<AuctionStatusResponse> getAllAuctions(int page, int size, AuctionSearchRequest search) {
+        Pageable pageable = PageRequest.of(page, size, toSort(search.getSort()));
+        Page<AuctionSummary> auctionPage = auctionRepository.searchAuctions(
+                search.getStatus() != null ? List.of(search.getStatus()) : ALL_STATUSES,
+                Optional.ofNullable(search.getExpiresAfter()).orElse(EARLIEST_EXPIRATION),
+                Optional.ofNullable(search.getExpiresBefore()).orElse(LATEST_EXPIRATION),
+                Optional.ofNullable(search.getMinPrice()).orElse(LOWEST_PRICE),
+                Optional.ofNullable(search.getMaxPrice()).orElse(HIGHEST_PRICE),
+                toPrefixPattern(search.getTitlePrefix()),
+                pageable);
 
         return auctionPage.map(auctionMapper::toAuctionStatusApiModel);
     }
 
+    /**
+     * Every sort ends with the auction id, so that auctions with the same sort key keep their order between pages
+     */
+    private static Sort toSort(AuctionSort sort) {
+        if (sort == null) {
+            return Sort.by("auctionId");
+        }
+        return switch (sort) {
+            case ENDING_SOON -> Sort.by("expirationTime", "auctionId");
+            case HIGHEST_PRICE -> Sort.by(Sort.Direction.DESC, "currentPrice", "auctionId");
+            case NEWEST -> Sort.by(Sort.Direction.DESC, "createdAt", "auctionId");
+        };
+    }
+
+    private static boolean isFilteredOrSorted(AuctionSearchRequest search) {
+        return search.getStatus() != null || search.getExpiresAfter() != null || search.getExpiresBefore() != null
+                || search.getMinPrice() != null || search.getMaxPrice() != null || search.getTitlePrefix() != null
+                || search.getSort() != null;
+    }
+
+    private static String toPrefixPattern(String titlePrefix) {
+        if (titlePrefix == null) {
+            return "%";
+        }
+        return titlePrefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    /**
+     * Continues the listing after the auction the cursor points to, reading one auction more than requested to find out
+     * whether another slice follows. Counting all auctions costs a query of its own, so it is done only on request.
+     * The cursor only orders by auction id, filters and sort orders are rejected rather than silently ignored.
+     */
+    @Transactional(readOnly = true)
+    public AuctionSliceResponse getAuctionsByCursor(String cursor, int size, boolean includeTotal,
+                                                    AuctionSearchRequest search) {
+        if (isFilteredOrSorted(search)) {
+            throw new IllegalArgumentException("Filters and sort orders are not supported with a cursor");
+        }
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new IllegalArgumentException(String.format("Slice size must be between 1 and %d", MAX_SLICE_SIZE));
+        }
+        long afterAuctionId = cursor == null || cursor.isEmpty() ? 0 : AuctionCursor.decode(cursor).auctionId();
+
+        List<AuctionSummary> auctions = auctionRepository.findAuctionSummariesAfter(afterAuctionId, Limit.of(size + 1));
+        boolean hasNextSlice = auctions.size() > size;
+        List<AuctionSummary> slice = hasNextSlice ? auctions.subList(0, size) : auctions;
+
+        return new AuctionSliceResponse(
+                slice.stream().map(auctionMapper::toAuctionStatusApiModel).toList(),
+                hasNextSlice ? new AuctionCursor(slice.get(slice.size() - 1).auctionId()).encode() : null,
+                includeTotal ? auctionRepository.count() : null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        evictAuction(event.auctionId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        evictAuction(event.auctionId());
+    }
+
+    /**
+     * The sequencer accepts bids before they are written, a read between the two would have cached the former row
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidsPersisted(BidsPersistedEvent event) {
+        event.auctionIds().forEach(this::evictAuction);
+    }
+
+    /**
+     * Not locked, unlike {@link AuctionRepository#findById}, so reads don't queue behind bids
+     */
+    private AuctionResponse loadAuction(Long auctionId) {
+        return auctionRepository.findWithHighestBidUserByAuctionId(auctionId)
+                .map(auctionMapper::toAuctionApiModel)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Auction with id %d not found", auctionId)));
+    }
+
+    private void evictAuction(Long auctionId) {
+        if (auctionCache != null) {
+            auctionCache.invalidate(auctionId);
+        }
+    }
+
+    private void publishAuctionScheduled(Auction auction) {
+        eventPublisher.publishEvent(new AuctionScheduledEvent(
+                auction.getAuctionId(), auction.getStatus(), auction.getExpirationTime(),
+                auction.getTitle(), auction.getDescription()));
+    }
+
     private void updateAuction(Auction auction, AuctionUpdateRequest auctionUpdateRequest) {
         if(auction.getHighestBid() != null || auction.getHighestBidUser() != null) {
             throw new AuctionModificationException(
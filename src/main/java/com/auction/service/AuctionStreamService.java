@@ -0,0 +1,112 @@
+package com.auction.service;
+
+import com.auction.api.model.auction.AuctionPriceUpdate;
+import com.auction.engine.CoalescingBroadcaster;
+import com.auction.event.AuctionChangedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.exception.ResourceNotFoundException;
+import com.auction.mapper.AuctionMapper;
+import com.auction.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams price updates of auctions to their viewers, as server-sent events or to any other subscriber.
+ * An accepted bid is fanned out to the viewers of its auction once, straight from the event and without a read.
+ * Other changes, like an auction being closed, cost one read per change if the auction has viewers at all.
+ * A viewer which can't keep up skips to the latest price, see {@link CoalescingBroadcaster}.
+ * <p>
+ * Every bidder's request publishes its own event, so two prices may arrive in reverse order.
+ * The price only ever rises, so a viewer drops any price lower than one it was already offered.
+ */
+@Service
+public class AuctionStreamService {
+
+    static final String PRICE_EVENT = "price";
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionMapper auctionMapper;
+    private final CoalescingBroadcaster<Long, AuctionPriceUpdate> broadcaster;
+    private final long timeoutMillis;
+
+    public AuctionStreamService(AuctionRepository auctionRepository,
+                                @Value("${auction.stream.sender-threads:4}") int senderThreads,
+                                @Value("${auction.stream.timeout-minutes:30}") long timeoutMinutes) {
+        this.auctionRepository = auctionRepository;
+        this.auctionMapper = AuctionMapper.INSTANCE;
+        this.broadcaster = new CoalescingBroadcaster<>("auction-stream", senderThreads,
+                Comparator.comparing(AuctionPriceUpdate::getHighestBid, Comparator.nullsFirst(Comparator.naturalOrder())));
+        this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+    }
+
+    /**
+     * The current price is sent right away, then every change until the auction is closed or the stream times out
+     */
+    public SseEmitter subscribe(Long auctionId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        CoalescingBroadcaster<Long, AuctionPriceUpdate>.Subscription subscription =
+                subscribe(auctionId, update -> send(emitter, update));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * Hands the current price and then every change of the auction to the subscriber, until the subscription is cancelled
+     */
+    public CoalescingBroadcaster<Long, AuctionPriceUpdate>.Subscription subscribe(
+            Long auctionId, CoalescingBroadcaster.Subscriber<AuctionPriceUpdate> subscriber) {
+        CoalescingBroadcaster<Long, AuctionPriceUpdate>.Subscription subscription = broadcaster.subscribe(auctionId, subscriber);
+
+        // Read after subscribing, so that no change is missed in between
+        AuctionPriceUpdate current = auctionRepository.findAuctionPrice(auctionId)
+                .map(auctionMapper::toAuctionPriceUpdate)
+                .orElseThrow(() -> {
+                    subscription.cancel();
+                    return new ResourceNotFoundException(String.format("Auction with id %d not found", auctionId));
+                });
+        subscription.offerInitial(current);
+        return subscription;
+    }
+
+    public int viewerCount(Long auctionId) {
+        return broadcaster.subscriberCount(auctionId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        if (broadcaster.hasSubscribers(event.auctionId())) {
+            broadcaster.publish(event.auctionId(), auctionMapper.toAuctionPriceUpdate(event));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        if (broadcaster.hasSubscribers(event.auctionId())) {
+            auctionRepository.findAuctionPrice(event.auctionId())
+                    .map(auctionMapper::toAuctionPriceUpdate)
+                    .ifPresent(update -> broadcaster.publish(event.auctionId(), update));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        broadcaster.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    private void send(SseEmitter emitter, AuctionPriceUpdate update) throws IOException {
+        emitter.send(SseEmitter.event().name(PRICE_EVENT).data(update));
+        if ("CLOSED".equals(update.getStatus())) {
+            emitter.complete();
+        }
+    }
+}
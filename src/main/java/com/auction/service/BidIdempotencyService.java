@@ -0,0 +1,117 @@
+package com.auction.service;
+
+import com.auction.api.model.bid.BidRequest;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.engine.IdempotencyCache;
+import com.auction.exception.IdempotencyKeyReuseException;
+import com.auction.mapper.BidMapper;
+import com.auction.repository.BidIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Places bids at most once per Idempotency-Key. The response of the first request made with a key is
+ * kept in memory for a short while and in the database for longer, a retry gets it back without
+ * the bid being placed again. A duplicate arriving while the first request is still running waits for it.
+ * <p>
+ * Only successful responses are kept, a request that failed can be retried with the same key.
+ */
+@Service
+@Slf4j
+public class BidIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final BidService bidService;
+    private final BidIdempotencyKeyRepository bidIdempotencyKeyRepository;
+    private final BidMapper bidMapper;
+    private final IdempotencyCache<BidResponse> cache;
+    private final Duration retention;
+
+    public BidIdempotencyService(BidService bidService,
+                                 BidIdempotencyKeyRepository bidIdempotencyKeyRepository,
+                                 @Value("${auction.bid.idempotency.cache-size:10000}") int cacheSize,
+                                 @Value("${auction.bid.idempotency.cache-ttl-minutes:10}") long cacheTtlMinutes,
+                                 @Value("${auction.bid.idempotency.retention-hours:24}") long retentionHours) {
+        this.bidService = bidService;
+        this.bidIdempotencyKeyRepository = bidIdempotencyKeyRepository;
+        this.bidMapper = BidMapper.INSTANCE;
+        this.cache = new IdempotencyCache<>(cacheSize, Duration.ofMinutes(cacheTtlMinutes));
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    public BidResponse placeBid(final Authentication authentication, final Long auctionId,
+                                final BidRequest bidRequest, final String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return bidService.placeBid(authentication, auctionId, bidRequest);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("Idempotency-Key must be between 1 and %d characters long", MAX_KEY_LENGTH));
+        }
+
+        // Keys are chosen by clients, so they are only unique per user
+        String scopedKey = authentication.getName() + ":" + idempotencyKey;
+        CompletableFuture<BidResponse> outcome = new CompletableFuture<>();
+        CompletableFuture<BidResponse> earlierOutcome = cache.putIfAbsent(scopedKey, outcome);
+        if (earlierOutcome != null) {
+            log.info("Replaying bid response for Idempotency-Key {}", idempotencyKey);
+            return verifySameBid(join(earlierOutcome), auctionId, bidRequest, idempotencyKey);
+        }
+
+        try {
+            BidResponse bidResponse = bidIdempotencyKeyRepository.findById(scopedKey)
+                    .map(bidMapper::toBidApiModel)
+                    .orElseGet(() -> store(scopedKey, bidService.placeBid(authentication, auctionId, bidRequest)));
+            outcome.complete(bidResponse);
+            return verifySameBid(bidResponse, auctionId, bidRequest, idempotencyKey);
+        } catch (RuntimeException e) {
+            cache.remove(scopedKey, outcome);
+            outcome.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int purgeExpiredKeys() {
+        return bidIdempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * The bid is placed already, failing to keep its response only costs the protection against retries
+     * after the in-memory entry expired
+     */
+    private BidResponse store(String scopedKey, BidResponse bidResponse) {
+        try {
+            bidIdempotencyKeyRepository.save(bidMapper.toBidIdempotencyKeyEntity(scopedKey, bidResponse));
+        } catch (RuntimeException e) {
+            log.warn("Failed to store response of bid {} for idempotency key {}", bidResponse.getBidId(), scopedKey, e);
+        }
+        return bidResponse;
+    }
+
+    private BidResponse verifySameBid(BidResponse bidResponse, Long auctionId, BidRequest bidRequest, String idempotencyKey) {
+        if (!bidResponse.getAuctionId().equals(auctionId) || !bidResponse.getAmount().equals(bidRequest.getAmount())) {
+            throw new IdempotencyKeyReuseException(
+                    String.format("Idempotency-Key %s was already used for a different bid", idempotencyKey));
+        }
+        return bidResponse;
+    }
+
+    private BidResponse join(CompletableFuture<BidResponse> outcome) {
+        try {
+            return outcome.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
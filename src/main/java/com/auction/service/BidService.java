@@ -1,68 +1,206 @@
 package com.auction.service;
 
+import com.auction.api.model.bid.BidHistoryResponse;
 import com.auction.api.model.bid.BidRequest;
 import com.auction.api.model.bid.BidResponse;
-import com.auction.exception.AuctionClosedException;
-import com.auction.exception.AuctionTimeExpiredException;
+import com.auction.engine.AcceptedBid;
+import com.auction.engine.AuctionWatermarks;
+import com.auction.engine.BidEngineMode;
+import com.auction.engine.BidGroupCommitter;
+import com.auction.engine.BidJournal;
+import com.auction.engine.BidRules;
+import com.auction.engine.BidSequencer;
+import com.auction.event.BidAcceptedEvent;
 import com.auction.exception.AuthenticationException;
 import com.auction.exception.InvalidBidException;
 import com.auction.exception.ResourceNotFoundException;
 import com.auction.mapper.BidMapper;
 import com.auction.model.Auction;
-import com.auction.model.AuctionStatus;
 import com.auction.model.Bid;
+import com.auction.model.BidHistoryEntry;
+import com.auction.model.Money;
 import com.auction.model.User;
+import com.auction.model.UserDetailModel;
 import com.auction.repository.AuctionRepository;
 import com.auction.repository.BidRepository;
 import com.auction.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.OptimisticLockException;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @Slf4j
 public class BidService {
 
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final String CONCURRENT_MODIFICATION_MESSAGE = "Failed to place bid due to concurrent modifications. Please try again.";
+
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
     private final UserRepository userRepository;
     private final BidMapper bidMapper;
     private final SequenceService sequenceService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<BidSequencer> bidSequencer;
+    private final ObjectProvider<BidGroupCommitter> bidGroupCommitter;
+    private final ObjectProvider<BidJournal> bidJournal;
+    private final AuctionWatermarks auctionWatermarks;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidEngineMode engineMode;
 
-    public BidService(AuctionRepository auctionRepository, UserRepository userRepository, SequenceService sequenceService, BidRepository bidRepository) {
+    public BidService(AuctionRepository auctionRepository, UserRepository userRepository, SequenceService sequenceService, BidRepository bidRepository,
+                      TransactionTemplate transactionTemplate, ObjectProvider<BidSequencer> bidSequencer,
+                      ObjectProvider<BidGroupCommitter> bidGroupCommitter, ObjectProvider<BidJournal> bidJournal,
+                      AuctionWatermarks auctionWatermarks, ApplicationEventPublisher eventPublisher,
+                      @Value("${auction.bid.engine:locking}") BidEngineMode engineMode) {
         this.auctionRepository = auctionRepository;
         this.userRepository = userRepository;
         this.sequenceService = sequenceService;
         this.bidMapper = BidMapper.INSTANCE;
         this.bidRepository = bidRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bidSequencer = bidSequencer;
+        this.bidGroupCommitter = bidGroupCommitter;
+        this.bidJournal = bidJournal;
+        this.auctionWatermarks = auctionWatermarks;
+        this.eventPublisher = eventPublisher;
+        this.engineMode = engineMode;
     }
 
-    @Transactional
     public BidResponse placeBid(final Authentication authentication,
                                 final Long auctionId, final BidRequest bidRequest) {
-        String username = getUsernameFromAuthentication(authentication);
+        // Losing bids are turned away here, before they take a database connection
+        auctionWatermarks.rejectIfStale(auctionId, bidRequest.getAmount().cents(), LocalDateTime.now());
+
+        return switch (engineMode) {
+            case SEQUENCER -> placeSequencedBid(authentication, auctionId, bidRequest);
+            case GROUP_COMMIT -> placeGroupCommittedBid(authentication, auctionId, bidRequest);
+            case CONDITIONAL -> transactionTemplate.execute(status -> placeConditionalBid(authentication, auctionId, bidRequest));
+            case OPTIMISTIC -> placeOptimisticBid(authentication, auctionId, bidRequest);
+            case LOCKING -> transactionTemplate.execute(status -> placeLockedBid(authentication, auctionId, bidRequest));
+        };
+    }
+
+    /**
+     * Returns the bids of an auction placed before the given bid, newest first. One bid more than requested is
+     * read to find out whether another page follows.
+     */
+    public BidHistoryResponse getBidHistory(final Long auctionId, final Long beforeBidId, final int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Page size must be between 1 and %d", MAX_HISTORY_PAGE_SIZE));
+        }
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException(String.format("Auction with id %d not found", auctionId));
+        }
+
+        List<BidHistoryEntry> entries = bidRepository.findBidHistory(auctionId,
+                beforeBidId == null ? Long.MAX_VALUE : beforeBidId, Limit.of(size + 1));
+        boolean hasNextPage = entries.size() > size;
+        List<BidHistoryEntry> page = hasNextPage ? entries.subList(0, size) : entries;
+
+        return new BidHistoryResponse(page.stream().map(bidMapper::toBidApiModel).toList(),
+                hasNextPage ? page.get(page.size() - 1).bidId() : null);
+    }
+
+    /**
+     * Bids are handed to the in-memory owner of the auction, no transaction is held while waiting for it
+     */
+    private BidResponse placeSequencedBid(Authentication authentication, Long auctionId, BidRequest bidRequest) {
+        User user = getBidder(authentication);
+        AcceptedBid acceptedBid = bidSequencer.getObject().placeBid(auctionId, user, bidRequest.getAmount().cents());
+        return publishBidAccepted(bidMapper.toBidApiModel(acceptedBid));
+    }
+
+    /**
+     * The bid waits for the next group commit, no transaction is held while waiting for it.
+     * A rejected bid is explained the same way as in the conditional mode.
+     */
+    private BidResponse placeGroupCommittedBid(Authentication authentication, Long auctionId, BidRequest bidRequest) {
+        User user = getBidder(authentication);
+        return bidGroupCommitter.getObject().placeBid(auctionId, user, bidRequest.getAmount().cents())
+                .map(acceptedBid -> publishBidAccepted(bidMapper.toBidApiModel(acceptedBid)))
+                .orElseThrow(() -> explainRejection(auctionId, bidRequest));
+    }
+
+    /**
+     * The auction row is never read for update, a single guarded UPDATE decides whether the bid wins.
+     * Only when it doesn't, the auction is read to tell the bidder why.
+     */
+    private BidResponse placeConditionalBid(Authentication authentication, Long auctionId, BidRequest bidRequest) {
+        User user = getBidder(authentication);
+        LocalDateTime now = LocalDateTime.now();
+
+        int updatedRows = auctionRepository.updateHighestBidIfHigher(auctionId, user.getUserId(),
+                bidRequest.getAmount().toBigDecimal(), now);
+        if (updatedRows == 0) {
+            throw explainRejection(auctionId, bidRequest);
+        }
+
+        Bid savedBid = saveBid(bidRequest, auctionRepository.getReferenceById(auctionId), user);
+        return publishBidAccepted(bidMapper.toBidApiModel(savedBid));
+    }
+
+    /**
+     * The auction is read without a lock and every attempt runs in its own transaction,
+     * so a concurrent bid is detected by the version check when the attempt commits.
+     */
+    private BidResponse placeOptimisticBid(Authentication authentication, Long auctionId, BidRequest bidRequest) {
+        User user = getBidder(authentication);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Auction auction = auctionRepository.findByAuctionId(auctionId)
+                            .orElseThrow(() -> new ResourceNotFoundException(
+                                    String.format("Auction with id %d not found", auctionId)));
+                    auctionWatermarks.observe(auction);
+                    validateAuctionStatus(auction);
+                    validateBidAmount(auction, bidRequest);
+
+                    Bid savedBid = saveBid(bidRequest, auction, user);
+                    updateAuctionWithHighestBid(auction, bidRequest, user);
+                    return publishBidAccepted(bidMapper.toBidApiModel(savedBid));
+                });
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new InvalidBidException(CONCURRENT_MODIFICATION_MESSAGE);
+                }
+            }
+        }
+    }
+
+    private BidResponse placeLockedBid(Authentication authentication, Long auctionId, BidRequest bidRequest) {
+        User user = getBidder(authentication);
         Auction auction = getAuctionById(auctionId);
-        User user = getUserByUsername(username);
+        auctionWatermarks.observe(auction);
 
         validateAuctionStatus(auction);
         validateBidAmount(auction, bidRequest);
 
-        int retryAttempts = 3;
+        int retryAttempts = MAX_ATTEMPTS;
         while (retryAttempts > 0) {
             try {
                 Bid savedBid = saveBid(bidRequest, auction, user);
                 updateAuctionWithHighestBid(auction, bidRequest, user);
-                return bidMapper.toBidApiModel(savedBid);
+                return publishBidAccepted(bidMapper.toBidApiModel(savedBid));
             } catch (OptimisticLockException e) {
                 retryAttempts--;
                 if (retryAttempts == 0) {
-                    throw new InvalidBidException("Failed to place bid due to concurrent modifications. Please try again.");
+                    throw new InvalidBidException(CONCURRENT_MODIFICATION_MESSAGE);
                 }
                 auction = getAuctionById(auctionId);
             }
@@ -70,6 +208,34 @@ public class BidService {
         throw new InvalidBidException("Failed to place bid after multiple attempts.");
     }
 
+    /**
+     * Reads the auction after a guarded UPDATE didn't accept a bid, to tell the bidder why.
+     * When the auction allows the bid by now, a concurrent bid got in between.
+     */
+    private InvalidBidException explainRejection(Long auctionId, BidRequest bidRequest) {
+        Auction auction = auctionRepository.findByAuctionId(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Auction with id %d not found", auctionId)));
+        auctionWatermarks.observe(auction);
+        validateAuctionStatus(auction);
+        validateBidAmount(auction, bidRequest);
+        return new InvalidBidException(CONCURRENT_MODIFICATION_MESSAGE);
+    }
+
+    /**
+     * Users authenticated by this application carry their id, so the bidder is only read for other principals.
+     * A bid needs nothing but the id and username of its bidder, which is all the returned user holds then.
+     */
+    private User getBidder(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserDetailModel principal && principal.getUserId() != null) {
+            User bidder = new User();
+            bidder.setUserId(principal.getUserId());
+            bidder.setUsername(principal.getUsername());
+            return bidder;
+        }
+        return getUserByUsername(getUsernameFromAuthentication(authentication));
+    }
+
     private String getUsernameFromAuthentication(Authentication authentication) {
         Object principal = authentication.getPrincipal();
         if (principal instanceof UserDetails userDetails) {
@@ -92,32 +258,12 @@ public class BidService {
     }
 
     private void validateAuctionStatus(Auction auction) {
-        if (auction.getExpirationTime().isBefore(LocalDateTime.now())) {
-            throw new AuctionTimeExpiredException(
-                    String.format("Bids on auction with id %d can't be made since it is expired", auction.getAuctionId()));
-        }
-
-        if (AuctionStatus.CLOSED.equals(AuctionStatus.valueOf(auction.getStatus()))) {
-            throw new AuctionClosedException(
-                    String.format("Bids on auction with id %d can't be made since it is closed", auction.getAuctionId()));
-        }
+        BidRules.validateAuctionStatus(auction.getAuctionId(), auction.getStatus(), auction.getExpirationTime(), LocalDateTime.now());
     }
 
     private void validateBidAmount(Auction auction, BidRequest bidRequest) {
-        Double highestBid = auction.getHighestBid();
-        Double startingPrice = auction.getStartingPrice();
-
-        if (highestBid == null && bidRequest.getAmount().compareTo(startingPrice) < 0) {
-            throw new InvalidBidException(
-                    String.format("Bid amount %s must be greater than or equal to the starting price %s",
-                            bidRequest.getAmount(), startingPrice));
-        }
-
-        if (highestBid != null && bidRequest.getAmount().compareTo(highestBid) <= 0) {
-            throw new InvalidBidException(
-                    String.format("Bid amount %s must be higher than the current highest bid amount %s",
-                            bidRequest.getAmount(), highestBid));
-        }
+        BidRules.validateBidAmount(bidRequest.getAmount().cents(), auction.getStartingPrice().cents(),
+                Money.centsOrNone(auction.getHighestBid()));
     }
 
     private Bid saveBid(BidRequest bidRequest, Auction auction, User user) {
@@ -135,8 +281,25 @@ public class BidService {
         auctionRepository.save(auction);
     }
 
+    /**
+     * Listeners run after the transaction of the bid committed, or right away when there is none
+     */
+    private BidResponse publishBidAccepted(BidResponse bidResponse) {
+        eventPublisher.publishEvent(new BidAcceptedEvent(bidResponse.getAuctionId(), bidResponse.getBidId(),
+                bidResponse.getUserId(), bidResponse.getUsername(), bidResponse.getAmount(), bidResponse.getBidTime()));
+        return bidResponse;
+    }
+
+    /**
+     * With the journal the database outlives the process, restarting the sequence at its initial value would hand out
+     * ids of persisted bids again. The journal replays its bids when it is created, so they count as well.
+     */
     @PostConstruct
     public void resetSequences() {
-        sequenceService.resetBidSequence();
+        if (bidJournal.getIfAvailable() != null) {
+            sequenceService.restartBidSequenceAfterPersistedBids();
+        } else {
+            sequenceService.resetBidSequence();
+        }
     }
 }
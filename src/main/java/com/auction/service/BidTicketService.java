@@ -0,0 +1,146 @@
+package com.auction.service;
+
+import com.auction.api.model.bid.BidRequest;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.api.model.bid.BidTicketResponse;
+import com.auction.engine.AuctionWatermarks;
+import com.auction.engine.IdempotencyCache;
+import com.auction.engine.PartitionedExecutor;
+import com.auction.exception.AuctionClosedException;
+import com.auction.exception.AuctionTimeExpiredException;
+import com.auction.exception.BidQueueFullException;
+import com.auction.exception.InvalidBidException;
+import com.auction.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts bids asynchronously. A bid passing the cheap in-memory checks is queued on the partition
+ * owning its auction and the caller gets a ticket right away, request threads never wait on the database.
+ * The outcome is kept under the ticket for a while, so that the bidder can poll for it.
+ * <p>
+ * Bids of one auction are placed one after the other by the same partition, so they don't contend for
+ * the auction row among themselves. A full partition turns bids away instead of queueing them without bound.
+ */
+@Service
+@Slf4j
+public class BidTicketService {
+
+    private static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred. Please try again later.";
+
+    private final BidIdempotencyService bidIdempotencyService;
+    private final AuctionWatermarks auctionWatermarks;
+    private final IdempotencyCache<BidResponse> tickets;
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final PartitionedExecutor partitions;
+
+    public BidTicketService(BidIdempotencyService bidIdempotencyService,
+                            AuctionWatermarks auctionWatermarks,
+                            @Value("${auction.bid.async.enabled:false}") boolean enabled,
+                            @Value("${auction.bid.async.partitions:4}") int partitions,
+                            @Value("${auction.bid.async.queue-capacity:1000}") int queueCapacity,
+                            @Value("${auction.bid.async.ticket-ttl-minutes:10}") long ticketTtlMinutes,
+                            @Value("${auction.bid.async.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.bidIdempotencyService = bidIdempotencyService;
+        this.auctionWatermarks = auctionWatermarks;
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.tickets = new IdempotencyCache<>(partitions * queueCapacity * 10, Duration.ofMinutes(ticketTtlMinutes));
+        this.partitions = enabled ? new PartitionedExecutor("bid-async", partitions, queueCapacity) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public BidTicketResponse submitBid(final Authentication authentication, final Long auctionId,
+                                       final BidRequest bidRequest, final String idempotencyKey) {
+        if (bidRequest.getAmount() == null) {
+            throw new IllegalArgumentException("Bid amount is mandatory.");
+        }
+        auctionWatermarks.rejectIfStale(auctionId, bidRequest.getAmount().cents(), LocalDateTime.now());
+
+        String ticketId = UUID.randomUUID().toString();
+        String scopedTicketId = scope(authentication, auctionId, ticketId);
+        CompletableFuture<BidResponse> outcome = new CompletableFuture<>();
+        tickets.putIfAbsent(scopedTicketId, outcome);
+
+        boolean queued = partitions.trySubmit(auctionId, () -> {
+            try {
+                outcome.complete(bidIdempotencyService.placeBid(authentication, auctionId, bidRequest, idempotencyKey));
+            } catch (RuntimeException e) {
+                if (!isBidRejection(e)) {
+                    log.error("Failed to place queued bid on auction {}", auctionId, e);
+                }
+                outcome.completeExceptionally(e);
+            }
+        });
+        if (!queued) {
+            tickets.remove(scopedTicketId, outcome);
+            log.warn("Bid queue of auction {} is full, turning bid away", auctionId);
+            throw new BidQueueFullException("Too many bids are waiting to be placed. Please try again later.",
+                    retryAfterSeconds);
+        }
+
+        return toTicketResponse(ticketId, auctionId, outcome);
+    }
+
+    public BidTicketResponse getTicket(final Authentication authentication, final Long auctionId, final String ticketId) {
+        CompletableFuture<BidResponse> outcome = tickets.get(scope(authentication, auctionId, ticketId));
+        if (outcome == null) {
+            throw new ResourceNotFoundException(String.format("Bid ticket %s not found", ticketId));
+        }
+        return toTicketResponse(ticketId, auctionId, outcome);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (partitions != null) {
+            partitions.shutdown(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // Tickets are only visible to the user who placed the bid, under the auction the bid was placed on
+    private String scope(Authentication authentication, Long auctionId, String ticketId) {
+        return authentication.getName() + ":" + auctionId + ":" + ticketId;
+    }
+
+    private BidTicketResponse toTicketResponse(String ticketId, Long auctionId, CompletableFuture<BidResponse> outcome) {
+        BidTicketResponse ticket = new BidTicketResponse();
+        ticket.setTicketId(ticketId);
+        ticket.setAuctionId(auctionId);
+        if (!outcome.isDone()) {
+            ticket.setStatus(BidTicketResponse.Status.PENDING);
+            return ticket;
+        }
+        try {
+            BidResponse bid = outcome.join();
+            ticket.setStatus(BidTicketResponse.Status.ACCEPTED);
+            ticket.setBid(bid);
+        } catch (CompletionException e) {
+            ticket.setStatus(BidTicketResponse.Status.REJECTED);
+            ticket.setMessage(isBidRejection(e.getCause()) ? e.getCause().getMessage() : UNEXPECTED_ERROR_MESSAGE);
+        }
+        return ticket;
+    }
+
+    /**
+     * Only the reasons the bid rules give are shown to the bidder, like the synchronous path does,
+     * messages of anything else may tell about the internals
+     */
+    private static boolean isBidRejection(Throwable e) {
+        return e instanceof InvalidBidException || e instanceof AuctionClosedException
+                || e instanceof AuctionTimeExpiredException || e instanceof ResourceNotFoundException;
+    }
+}
@@ -1,9 +1,12 @@
 package com.auction.service;
 
 import com.auction.api.model.LoginRequest;
+import com.auction.api.model.LoginResponse;
+import com.auction.api.security.AccessTokens;
 import com.auction.exception.InvalidCredentialsException;
 import com.auction.exception.ResourceNotFoundException;
 import com.auction.model.User;
+import com.auction.model.UserDetailModel;
 import com.auction.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -26,14 +29,20 @@ public class LoginService {
 
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
+    private final AccessTokens accessTokens;
 
-    public void login(LoginRequest loginRequest) {
+    /**
+     * @return an access token which authenticates the requests of the user until it expires, without the password
+     */
+    public LoginResponse login(LoginRequest loginRequest) {
         UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password());
         try {
             Authentication authentication = authenticationManager.authenticate(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            updateLastLogin(loginRequest.username());
+            User user = updateLastLogin(loginRequest.username());
             log.info("User {} logged in", loginRequest.username());
+            return new LoginResponse(accessTokens.issue(new UserDetailModel(user)), AccessTokens.TOKEN_TYPE,
+                    accessTokens.getTtl().toSeconds());
         } catch (BadCredentialsException e) {
             log.warn("Invalid credentials for user: {}", loginRequest.username());
             throw new InvalidCredentialsException(
@@ -45,9 +54,10 @@ public class LoginService {
         }
     }
 
-    private void updateLastLogin(String username) {
+    private User updateLastLogin(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException(("User with username '" + username + "' not found")));
         user.setLastLogin(LocalDateTime.now());
+        return user;
     }
 }
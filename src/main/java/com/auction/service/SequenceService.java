@@ -32,7 +32,17 @@ public class SequenceService {
         this.resetSequence("BID_ID_SEQ", 10);
     }
 
-    private void resetSequence(String sequenceName, int value) {
+    /**
+     * Restarts past the highest persisted bid, for databases which outlive the process
+     */
+    @Transactional
+    public void restartBidSequenceAfterPersistedBids() {
+        Number maxBidId = (Number) entityManager.createNativeQuery("SELECT COALESCE(MAX(bid_id), 0) FROM bid")
+                .getSingleResult();
+        this.resetSequence("BID_ID_SEQ", Math.max(10, maxBidId.longValue() + 1));
+    }
+
+    private void resetSequence(String sequenceName, long value) {
         String sql = String.format("ALTER SEQUENCE %s RESTART WITH %d", sequenceName, value);
         Query query = entityManager.createNativeQuery(sql);
         query.executeUpdate();
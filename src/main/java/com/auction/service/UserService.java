@@ -2,6 +2,7 @@ package com.auction.service;
 
 import com.auction.api.model.user.UserRequest;
 import com.auction.api.model.user.UserResponse;
+import com.auction.event.UserCredentialsChangedEvent;
 import com.auction.exception.InvalidRoleException;
 import com.auction.exception.ResourceNotFoundException;
 import com.auction.exception.UserConflictException;
@@ -13,6 +14,7 @@ import com.auction.repository.RoleRepository;
 import com.auction.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -28,13 +30,16 @@ public class UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final SequenceService sequenceService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, SequenceService sequenceService) {
+    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder,
+                       SequenceService sequenceService, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.userMapper = UserMapper.INSTANCE;
         this.passwordEncoder = passwordEncoder;
         this.sequenceService = sequenceService;
+        this.eventPublisher = eventPublisher;
     }
 
     public Optional<User> findUserByUsername(String username) {
@@ -61,6 +66,7 @@ public class UserService {
                 .map(userRepository::save)
                 .map(savedUser -> {
                     log.info("Created user with username: {}", userRequest.getUsername());
+                    eventPublisher.publishEvent(new UserCredentialsChangedEvent(savedUser.getUsername()));
                     return userMapper.toUserApiModel(savedUser);
                 })
                 .orElseThrow(() -> new UserCreationException("Error creating user"));
@@ -0,0 +1,15 @@
+-- Responses of bids placed with an Idempotency-Key, replayed when a client retries the request
+CREATE TABLE IF NOT EXISTS bid_idempotency_key (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    bid_id BIGINT NOT NULL,
+    auction_id BIGINT NOT NULL,
+    auction_title TEXT,
+    user_id BIGINT NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    bid_time TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create index on created_at for purging expired keys
+CREATE INDEX idx_bid_idempotency_key_created_at ON bid_idempotency_key (created_at);
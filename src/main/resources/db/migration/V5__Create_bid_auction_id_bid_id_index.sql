@@ -0,0 +1,4 @@
+-- Replace the index on auction_id with one on (auction_id, bid_id), so that the bid history of an auction
+-- is read in bid order straight from the index, whatever page is requested
+DROP INDEX IF EXISTS idx_bid_auction_id;
+CREATE INDEX idx_bid_auction_id_bid_id ON bid (auction_id, bid_id);
@@ -0,0 +1,7 @@
+-- Leases on slices of the auctions (auction_id modulo the number of slices), claimed by the instances sweeping
+-- expired auctions so that every slice is swept by one instance at a time. Rows are added by the application.
+CREATE TABLE IF NOT EXISTS closer_lease (
+    slice_id INT PRIMARY KEY,
+    owner VARCHAR(255),
+    lease_until TIMESTAMP
+);
@@ -0,0 +1,14 @@
+CREATE SEQUENCE OUTBOX_ID_SEQ START WITH 1;
+
+-- Domain events written in the transaction that produced them, relayed downstream by OutboxRelay
+CREATE TABLE IF NOT EXISTS outbox (
+    outbox_id BIGINT DEFAULT NEXTVAL('OUTBOX_ID_SEQ') PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    payload TEXT,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP
+);
+
+-- Create index on published_at and outbox_id for reading unpublished events in outbox order
+CREATE INDEX idx_outbox_published_at_outbox_id ON outbox (published_at, outbox_id);
@@ -0,0 +1,15 @@
+-- Current price of an auction, its highest bid or its starting price while there is none, kept by the database
+-- so that auctions can be searched and sorted by price along an index
+ALTER TABLE auction ADD COLUMN current_price DECIMAL(10, 2) GENERATED ALWAYS AS (COALESCE(highest_bid, starting_price));
+
+-- Create index on status and current_price for searching auctions by price range and sorting them by highest price
+CREATE INDEX idx_status_current_price ON auction (status, current_price);
+
+-- Create index on status and created_at for listing the newest auctions first
+CREATE INDEX idx_status_created_at ON auction (status, created_at);
+
+-- A TEXT column can't be indexed, titles are limited to 255 characters like the entity always declared
+ALTER TABLE auction ALTER COLUMN title VARCHAR(255) NOT NULL;
+
+-- Create index on title for searching auctions by title prefix
+CREATE INDEX idx_title ON auction (title);
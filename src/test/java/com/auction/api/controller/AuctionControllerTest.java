@@ -5,21 +5,28 @@ import com.auction.api.model.auction.AuctionResponse;
 import com.auction.api.model.auction.AuctionUpdateRequest;
 import com.auction.exception.ResourceNotFoundException;
 import com.auction.model.Auction;
+import com.auction.model.Money;
 import com.auction.repository.AuctionRepository;
 import com.auction.service.AuctionService;
+import com.auction.service.AuctionStreamService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class AuctionControllerTest extends AbstractControllerTest {
@@ -36,6 +43,9 @@ class AuctionControllerTest extends AbstractControllerTest {
     @Autowired
     private AuctionService auctionService;
 
+    @Autowired
+    private AuctionStreamService auctionStreamService;
+
     private static final String USERNAME = "test_user";
     private static final String ROLE_ADMIN = "admin";
     private static final String ROLE_USER = "user";
@@ -48,7 +58,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest validAuctionRequest = new AuctionRequest();
         validAuctionRequest.setTitle("Antique Vase");
         validAuctionRequest.setDescription("An ancient porcelain vase dating back to the Ming Dynasty.");
-        validAuctionRequest.setStartingPrice(150.00);
+        validAuctionRequest.setStartingPrice(Money.of("150.00"));
         validAuctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         // Act
@@ -68,7 +78,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest validAuctionRequest = new AuctionRequest();
         validAuctionRequest.setTitle("Antique Vase");
         validAuctionRequest.setDescription("An ancient porcelain vase dating back to the Ming Dynasty.");
-        validAuctionRequest.setStartingPrice(150.00);
+        validAuctionRequest.setStartingPrice(Money.of("150.00"));
         validAuctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         // Act
@@ -86,7 +96,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest validAuctionRequest = new AuctionRequest();
         validAuctionRequest.setTitle("Antique Vase");
         validAuctionRequest.setDescription("An ancient porcelain vase dating back to the Ming Dynasty.");
-        validAuctionRequest.setStartingPrice(150.00);
+        validAuctionRequest.setStartingPrice(Money.of("150.00"));
         validAuctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         // Act
@@ -104,7 +114,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest invalidAuctionRequest = new AuctionRequest();
         invalidAuctionRequest.setTitle(null);
         invalidAuctionRequest.setDescription("An ancient vase.");
-        invalidAuctionRequest.setStartingPrice(100.00);
+        invalidAuctionRequest.setStartingPrice(Money.of("100.00"));
         invalidAuctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         // Act
@@ -123,7 +133,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest validAuctionRequest = new AuctionRequest();
         validAuctionRequest.setTitle("Antique Vase");
         validAuctionRequest.setDescription("An ancient porcelain vase.");
-        validAuctionRequest.setStartingPrice(150.00);
+        validAuctionRequest.setStartingPrice(Money.of("150.00"));
         validAuctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         String createdAuction = mockMvc.perform(post("/v1/api/auctions")
@@ -144,6 +154,64 @@ class AuctionControllerTest extends AbstractControllerTest {
                 .andExpect(jsonPath("$.title").value("Antique Vase"));
     }
 
+    @Test
+    @WithMockUser(username = USERNAME, roles = ROLE_ADMIN)
+    void testGetAuctionByIdShouldReturnNotModifiedForMatchingETag() throws Exception {
+        // Arrange
+        Auction auction = new Auction();
+        auction.setTitle("Antique Vase");
+        auction.setDescription("An ancient porcelain vase.");
+        auction.setStatus("OPEN");
+        auction.setStartingPrice(Money.of("150.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(7));
+        auctionRepository.saveAndFlush(auction);
+
+        String eTag = mockMvc.perform(get("/v1/api/auctions/{id}", auction.getAuctionId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/auctions/{id}", auction.getAuctionId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, roles = ROLE_ADMIN)
+    void testGetAuctionByIdShouldReturnAuctionWhenETagIsOutdated() throws Exception {
+        // Arrange
+        Auction auction = new Auction();
+        auction.setTitle("Antique Vase");
+        auction.setDescription("An ancient porcelain vase.");
+        auction.setStatus("OPEN");
+        auction.setStartingPrice(Money.of("150.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(7));
+        auctionRepository.saveAndFlush(auction);
+
+        String eTag = mockMvc.perform(get("/v1/api/auctions/{id}", auction.getAuctionId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        AuctionUpdateRequest auctionUpdateRequest = new AuctionUpdateRequest();
+        auctionUpdateRequest.setTitle("Updated Antique Vase");
+        mockMvc.perform(put("/v1/api/auctions/{auctionId}", auction.getAuctionId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(auctionUpdateRequest)))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/auctions/{id}", auction.getAuctionId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Updated Antique Vase"));
+    }
+
     @Test
     @WithMockUser(username = USERNAME, roles = ROLE_ADMIN)
     void testGetAuctionByIdShouldReturnNotFound() throws Exception {
@@ -163,7 +231,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest validAuctionRequest = new AuctionRequest();
         validAuctionRequest.setTitle("Antique Vase");
         validAuctionRequest.setDescription("An ancient porcelain vase.");
-        validAuctionRequest.setStartingPrice(150.00);
+        validAuctionRequest.setStartingPrice(Money.of("150.00"));
         validAuctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         String createdAuction = mockMvc.perform(post("/v1/api/auctions")
@@ -181,7 +249,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionUpdateRequest auctionUpdateRequest = new AuctionUpdateRequest();
         auctionUpdateRequest.setTitle("Updated Antique Vase");
         auctionUpdateRequest.setDescription("An updated description for the vase.");
-        auctionUpdateRequest.setStartingPrice(200.00);
+        auctionUpdateRequest.setStartingPrice(Money.of("200.00"));
         auctionUpdateRequest.setExpirationTime(LocalDateTime.now().plusDays(10));
 
         // Act
@@ -201,7 +269,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest validAuctionRequest = new AuctionRequest();
         validAuctionRequest.setTitle("Antique Vase");
         validAuctionRequest.setDescription("An ancient porcelain vase.");
-        validAuctionRequest.setStartingPrice(150.00);
+        validAuctionRequest.setStartingPrice(Money.of("150.00"));
         validAuctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         String createdAuction = mockMvc.perform(post("/v1/api/auctions")
@@ -219,7 +287,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         Auction auction = auctionRepository.findById(savedAuction.getAuctionId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format("Auction with id %d not found", savedAuction.getAuctionId())));
-        auction.setHighestBid(150.00);
+        auction.setHighestBid(Money.of("150.00"));
         auction.setStatus("OPEN");
 
         mockMvc.perform(put("/v1/api/auctions/{auctionId}", savedAuction.getAuctionId())
@@ -238,7 +306,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest auctionRequest = new AuctionRequest();
         auctionRequest.setTitle("Antique Vase");
         auctionRequest.setDescription("An ancient porcelain vase.");
-        auctionRequest.setStartingPrice(150.00);
+        auctionRequest.setStartingPrice(Money.of("150.00"));
         auctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         // Act
@@ -257,7 +325,7 @@ class AuctionControllerTest extends AbstractControllerTest {
         AuctionRequest auctionRequest = new AuctionRequest();
         auctionRequest.setTitle("Antique Vase");
         auctionRequest.setDescription("An ancient porcelain vase.");
-        auctionRequest.setStartingPrice(150.00);
+        auctionRequest.setStartingPrice(Money.of("150.00"));
         auctionRequest.setExpirationTime(LocalDateTime.now().plusDays(7));
 
         // Act
@@ -267,4 +335,39 @@ class AuctionControllerTest extends AbstractControllerTest {
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message").value("Only users with 'admin' role are allowed to create auctions"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = USERNAME, roles = ROLE_USER)
+    void testStreamAuctionShouldSubscribeViewer() throws Exception {
+        // Arrange
+        Auction auction = new Auction();
+        auction.setTitle("Antique Vase");
+        auction.setDescription("An ancient porcelain vase.");
+        auction.setStatus("OPEN");
+        auction.setStartingPrice(Money.of("150.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(7));
+        auctionRepository.saveAndFlush(auction);
+
+        // Act
+        mockMvc.perform(get("/v1/api/auctions/{id}/stream", auction.getAuctionId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        // Assert
+        assertEquals(1, auctionStreamService.viewerCount(auction.getAuctionId()));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, roles = ROLE_USER)
+    void testStreamAuctionShouldReturnNotFound() throws Exception {
+        // Arrange
+        Long nonExistentAuctionId = 999L;
+
+        // Act
+        mockMvc.perform(get("/v1/api/auctions/{id}/stream", nonExistentAuctionId))
+                .andExpect(status().isNotFound());
+
+        // Assert
+        assertEquals(0, auctionStreamService.viewerCount(nonExistentAuctionId));
+    }
+}
@@ -7,6 +7,7 @@ import com.auction.api.model.user.UserRequest;
 import com.auction.api.model.user.UserResponse;
 import com.auction.model.Auction;
 import com.auction.model.AuctionStatus;
+import com.auction.model.Money;
 import com.auction.model.Role;
 import com.auction.repository.AuctionRepository;
 import com.auction.repository.RoleRepository;
@@ -95,7 +96,7 @@ class BidControllerTest  extends AbstractControllerTest {
         AuctionRequest auctionRequest = new AuctionRequest();
         auctionRequest.setTitle("Antique Vase");
         auctionRequest.setDescription("An ancient porcelain vase dating back to the Ming Dynasty.");
-        auctionRequest.setStartingPrice(150.00);
+        auctionRequest.setStartingPrice(Money.of("150.00"));
         auctionRequest.setExpirationTime(LocalDateTime.now().plusDays(1));
 
         String auctionJson = objectMapper.writeValueAsString(auctionRequest);
@@ -108,7 +109,7 @@ class BidControllerTest  extends AbstractControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.title").value(auctionRequest.getTitle()))
                 .andExpect(jsonPath("$.description").value(auctionRequest.getDescription()))
-                .andExpect(jsonPath("$.startingPrice").value(auctionRequest.getStartingPrice()))
+                .andExpect(jsonPath("$.startingPrice").value(150.00))
                 .andReturn()
                 .getResponse()
                 .getContentAsString();
@@ -276,7 +277,7 @@ class BidControllerTest  extends AbstractControllerTest {
                         .content(secondBidRequest))
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message")
-                        .value(String.format("Bid amount %s must be higher than the current highest bid amount %s", 50.00, firstBidResponse.getAmount())));
+                        .value(String.format("Bid amount %s must be higher than the current highest bid amount %s", Money.of("50.00"), firstBidResponse.getAmount())));
     }
 
     @Test
@@ -306,10 +307,22 @@ class BidControllerTest  extends AbstractControllerTest {
                         .content(secondBidRequest))
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message")
-                        .value(String.format("Bid amount %s must be higher than the current highest bid amount %s", 150.00, firstBidResponse.getAmount())));
+                        .value(String.format("Bid amount %s must be higher than the current highest bid amount %s", Money.of("150.00"), firstBidResponse.getAmount())));
 
     }
 
+    @Test
+    void testPlaceBidWithMoreThanTwoDecimalPlacesShouldBeBadRequest() throws Exception {
+        // Act
+        mockMvc.perform(post("/v1/api/auctions/{auctionId}/bids", auctionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 250.005}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Amount 250.005 must have at most 2 decimal places"));
+    }
+
     @Test
     void testPlaceBidOnClosedAuction() throws Exception {
         // Arrange
@@ -347,4 +360,96 @@ class BidControllerTest  extends AbstractControllerTest {
                 .andExpect(jsonPath("$.message")
                         .value(String.format("Bids on auction with id %d can't be made since it is expired", auctionId)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPlaceBidRetriedWithSameIdempotencyKeyShouldReturnFirstResponse() throws Exception {
+        // Arrange
+        String bidRequest = createBidRequest(250.00);
+        String firstResponse = mockMvc.perform(post("/v1/api/auctions/{auctionId}/bids", auctionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                        .header("Idempotency-Key", "retried-bid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bidRequest))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        BidResponse firstBidResponse = objectMapper.readValue(firstResponse, BidResponse.class);
+
+        // Act
+        mockMvc.perform(post("/v1/api/auctions/{auctionId}/bids", auctionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                        .header("Idempotency-Key", "retried-bid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bidRequest))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bidId").value(firstBidResponse.getBidId()))
+                .andExpect(jsonPath("$.amount").value(250.00));
+    }
+
+    @Test
+    void testPlaceBidWithIdempotencyKeyOfDifferentBidShouldFail() throws Exception {
+        // Arrange
+        mockMvc.perform(post("/v1/api/auctions/{auctionId}/bids", auctionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                        .header("Idempotency-Key", "reused-bid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBidRequest(250.00)))
+                .andExpect(status().isCreated());
+
+        // Act
+        mockMvc.perform(post("/v1/api/auctions/{auctionId}/bids", auctionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                        .header("Idempotency-Key", "reused-bid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBidRequest(300.00)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message")
+                        .value("Idempotency-Key reused-bid was already used for a different bid"));
+    }
+
+    @Test
+    void testGetBidHistoryShouldPageThroughBidsNewestFirst() throws Exception {
+        // Arrange
+        for (double amount : new double[]{250.00, 300.00, 350.00}) {
+            mockMvc.perform(post("/v1/api/auctions/{auctionId}/bids", auctionId)
+                            .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                    java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createBidRequest(amount)))
+                    .andExpect(status().isCreated());
+        }
+
+        // Act
+        String firstPage = mockMvc.perform(get("/v1/api/auctions/{auctionId}/bids", auctionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bids").value(hasSize(2)))
+                .andExpect(jsonPath("$.bids[0].amount").value(350.00))
+                .andExpect(jsonPath("$.bids[0].username").value(USERNAME))
+                .andExpect(jsonPath("$.bids[1].amount").value(300.00))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Long nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asLong();
+
+        // Assert
+        mockMvc.perform(get("/v1/api/auctions/{auctionId}/bids", auctionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " +
+                                java.util.Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes()))
+                        .param("size", "2")
+                        .param("before", String.valueOf(nextCursor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bids").value(hasSize(1)))
+                .andExpect(jsonPath("$.bids[0].amount").value(250.00))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+}
@@ -4,9 +4,11 @@ import com.auction.model.Role;
 import com.auction.model.User;
 import com.auction.repository.RoleRepository;
 import com.auction.repository.UserRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
@@ -14,8 +16,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Collections;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class LoginControllerTest extends AbstractControllerTest {
@@ -57,7 +60,33 @@ class LoginControllerTest extends AbstractControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(loginRequest))
                 .andExpect(status().isOk())
-                .andExpect(content().string(""));
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"));
+    }
+
+    @Test
+    void testAccessTokenShouldAuthenticateRequests() throws Exception {
+        // Arrange
+        String loginRequest = "{\"username\":\"testuser\", \"password\":\"password123\"}";
+        String loginResponse = mockMvc.perform(post("/v1/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(loginRequest))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(loginResponse, "$.accessToken");
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/auctions/ending-soon")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testInvalidAccessTokenShouldBeUnauthorized() throws Exception {
+        // Act
+        mockMvc.perform(get("/v1/api/auctions/ending-soon")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer bm90.YSB0b2tlbg"))
+                .andExpect(status().isUnauthorized());
     }
 
     @Test
@@ -0,0 +1,72 @@
+package com.auction.api.security;
+
+import com.auction.model.UserDetailModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessTokensTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final List<GrantedAuthority> AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    @Test
+    void testVerify_shouldReturnUserTheTokenWasIssuedTo() {
+        // Given
+        AccessTokens accessTokens = new AccessTokens(SECRET, Duration.ofMinutes(5));
+        String token = accessTokens.issue(new UserDetailModel(7L, "john|doe", AUTHORITIES));
+
+        // When
+        UserDetailModel user = accessTokens.verify(token).orElseThrow();
+
+        // Then
+        assertEquals(7L, user.getUserId());
+        assertEquals("john|doe", user.getUsername());
+        assertEquals(AUTHORITIES, List.copyOf(user.getAuthorities()));
+    }
+
+    @Test
+    void testVerify_shouldRejectTamperedToken() {
+        // Given
+        AccessTokens accessTokens = new AccessTokens(SECRET, Duration.ofMinutes(5));
+        String token = accessTokens.issue(new UserDetailModel(7L, "john_doe", AUTHORITIES));
+        String otherToken = accessTokens.issue(new UserDetailModel(8L, "jane_doe", List.of()));
+
+        // When
+        String tampered = otherToken.substring(0, otherToken.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        // Then
+        assertTrue(accessTokens.verify(tampered).isEmpty());
+        assertTrue(accessTokens.verify("not a token").isEmpty());
+        assertTrue(accessTokens.verify("bm90.YSB0b2tlbg").isEmpty());
+    }
+
+    @Test
+    void testVerify_shouldRejectTokenOfOtherSecret() {
+        // Given
+        String token = new AccessTokens(SECRET, Duration.ofMinutes(5))
+                .issue(new UserDetailModel(7L, "john_doe", AUTHORITIES));
+
+        // When & Then
+        byte[] otherSecret = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(new AccessTokens(otherSecret, Duration.ofMinutes(5)).verify(token).isEmpty());
+    }
+
+    @Test
+    void testVerify_shouldRejectExpiredToken() {
+        // Given
+        AccessTokens accessTokens = new AccessTokens(SECRET, Duration.ofMillis(-1));
+        String token = accessTokens.issue(new UserDetailModel(7L, "john_doe", AUTHORITIES));
+
+        // When & Then
+        assertTrue(accessTokens.verify(token).isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package com.auction.api.security;
+
+import com.auction.event.UserCredentialsChangedEvent;
+import com.auction.model.Role;
+import com.auction.model.User;
+import com.auction.model.UserDetailModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingAuthenticationProviderTest {
+
+    private AuthenticationProvider delegate;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AuthenticationProvider.class);
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            Authentication authentication = invocation.getArgument(0);
+            if (!"password123".equals(authentication.getCredentials())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(authentication.getName(),
+                    authentication.getCredentials(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        });
+        provider = new CachingAuthenticationProvider(delegate, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testAuthenticate_shouldVerifyRepeatedCredentialsOnce() {
+        // When
+        provider.authenticate(credentials("john_doe", "password123"));
+        Authentication authentication = provider.authenticate(credentials("john_doe", "password123"));
+
+        // Then
+        verify(delegate, times(1)).authenticate(any());
+        assertTrue(authentication.isAuthenticated());
+        assertEquals("john_doe", authentication.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), List.copyOf(authentication.getAuthorities()));
+        assertNull(authentication.getCredentials());
+    }
+
+    @Test
+    void testAuthenticate_shouldNotCacheFailedVerification() {
+        // When
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(credentials("john_doe", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(credentials("john_doe", "wrong")));
+
+        // Then
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void testAuthenticate_shouldVerifyOtherPasswordOfSameUser() {
+        // Given
+        provider.authenticate(credentials("john_doe", "password123"));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(credentials("john_doe", "password1234")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void testCredentialsChanged_shouldForgetVerifications() {
+        // Given
+        provider.authenticate(credentials("john_doe", "password123"));
+
+        // When
+        provider.onUserCredentialsChanged(new UserCredentialsChangedEvent("john_doe"));
+        provider.authenticate(credentials("john_doe", "password123"));
+
+        // Then
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void testAuthenticate_shouldNotKeepPasswordHashOfPrincipal() {
+        // Given
+        Role role = new Role();
+        role.setRoleName("USER");
+        User user = new User();
+        user.setUserId(7L);
+        user.setUsername("john_doe");
+        user.setPassword("$2a$10$hash");
+        user.setRoles(List.of(role));
+        when(delegate.authenticate(any())).thenReturn(UsernamePasswordAuthenticationToken.authenticated(
+                new UserDetailModel(user), "password123", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        // When
+        provider.authenticate(credentials("john_doe", "password123"));
+        Authentication authentication = provider.authenticate(credentials("john_doe", "password123"));
+
+        // Then
+        UserDetailModel principal = (UserDetailModel) authentication.getPrincipal();
+        assertEquals(7L, principal.getUserId());
+        assertEquals("john_doe", principal.getUsername());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), List.copyOf(principal.getAuthorities()));
+        assertNull(principal.getPassword());
+    }
+
+    private static Authentication credentials(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
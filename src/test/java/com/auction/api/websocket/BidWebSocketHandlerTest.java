@@ -0,0 +1,157 @@
+package com.auction.api.websocket;
+
+import com.auction.api.model.auction.AuctionPriceUpdate;
+import com.auction.api.model.bid.BidRequest;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.engine.CoalescingBroadcaster;
+import com.auction.exception.InvalidBidException;
+import com.auction.model.Money;
+import com.auction.service.AuctionStreamService;
+import com.auction.service.BidService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BidWebSocketHandlerTest {
+
+    private static final Long AUCTION_ID = 9L;
+
+    private BidService bidService;
+    private AuctionStreamService auctionStreamService;
+    private CoalescingBroadcaster<Long, AuctionPriceUpdate> broadcaster;
+    private AtomicReference<CoalescingBroadcaster.Subscriber<AuctionPriceUpdate>> priceSubscriber;
+    private WebSocketSession session;
+    private Authentication authentication;
+    private BidWebSocketHandler handler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        bidService = mock(BidService.class);
+        auctionStreamService = mock(AuctionStreamService.class);
+        broadcaster = new CoalescingBroadcaster<>("test-channel", 1);
+        priceSubscriber = new AtomicReference<>();
+        when(auctionStreamService.subscribe(eq(AUCTION_ID), any(CoalescingBroadcaster.Subscriber.class))).thenAnswer(invocation -> {
+            priceSubscriber.set(invocation.getArgument(1));
+            return broadcaster.subscribe(AUCTION_ID, invocation.getArgument(1));
+        });
+
+        authentication = new UsernamePasswordAuthenticationToken("john_doe", "password123");
+        session = mock(WebSocketSession.class);
+        when(session.getPrincipal()).thenReturn(authentication);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        handler = new BidWebSocketHandler(bidService, auctionStreamService, 1000, 64);
+        handler.afterConnectionEstablished(session);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        broadcaster.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testBidFrame_shouldBeAcceptedAndWatchAuction() throws Exception {
+        // Given
+        BidResponse bidResponse = new BidResponse();
+        bidResponse.setAuctionId(AUCTION_ID);
+        bidResponse.setBidId(111L);
+        bidResponse.setAmount(Money.of("250.00"));
+        when(bidService.placeBid(eq(authentication), eq(AUCTION_ID), any(BidRequest.class))).thenReturn(bidResponse);
+
+        // When
+        handler.handleTextMessage(session, new TextMessage("BID 9 250.00 r1"));
+
+        // Then
+        assertEquals(List.of("ACCEPTED r1 9 111 250.00"), sentFrames());
+        verify(auctionStreamService).subscribe(eq(AUCTION_ID), any());
+    }
+
+    @Test
+    void testBidFrame_shouldBeRejectedWithReason() throws Exception {
+        // Given
+        when(bidService.placeBid(eq(authentication), eq(AUCTION_ID), any(BidRequest.class)))
+                .thenThrow(new InvalidBidException("Bid amount must be higher than the current highest bid."));
+
+        // When
+        handler.handleTextMessage(session, new TextMessage("BID 9 10.00 r2"));
+
+        // Then
+        assertEquals(List.of("REJECTED r2 9 Bid amount must be higher than the current highest bid."), sentFrames());
+    }
+
+    @Test
+    void testPriceUpdate_shouldNotifyOutbidBidder() throws Exception {
+        // Given
+        handler.handleTextMessage(session, new TextMessage("WATCH 9"));
+        priceSubscriber.get().send(priceUpdate("250.00", "john_doe"));
+
+        // When
+        priceSubscriber.get().send(priceUpdate("300.00", "jane_doe"));
+
+        // Then
+        assertEquals(List.of("PRICE 9 OPEN 250.00 john_doe", "PRICE 9 OPEN 300.00 jane_doe", "OUTBID 9 300.00"),
+                sentFrames());
+    }
+
+    @Test
+    void testPriceUpdate_shouldDropPriceOlderThanAcceptedBid() throws Exception {
+        // Given
+        BidResponse bidResponse = new BidResponse();
+        bidResponse.setAuctionId(AUCTION_ID);
+        bidResponse.setBidId(111L);
+        bidResponse.setAmount(Money.of("250.00"));
+        when(bidService.placeBid(eq(authentication), eq(AUCTION_ID), any(BidRequest.class))).thenReturn(bidResponse);
+        handler.handleTextMessage(session, new TextMessage("BID 9 250.00 r1"));
+
+        // When
+        priceSubscriber.get().send(priceUpdate("200.00", "jane_doe"));
+        priceSubscriber.get().send(priceUpdate("250.00", "john_doe"));
+
+        // Then
+        assertEquals(List.of("ACCEPTED r1 9 111 250.00", "PRICE 9 OPEN 250.00 john_doe"), sentFrames());
+    }
+
+    @Test
+    void testMalformedFrame_shouldBeAnsweredWithError() throws Exception {
+        // When
+        handler.handleTextMessage(session, new TextMessage("BID 9 -5.00"));
+
+        // Then
+        assertEquals(List.of("ERROR Bid amount must be greater than zero."), sentFrames());
+    }
+
+    private AuctionPriceUpdate priceUpdate(String highestBid, String username) {
+        AuctionPriceUpdate update = new AuctionPriceUpdate();
+        update.setAuctionId(AUCTION_ID);
+        update.setHighestBid(Money.of(highestBid));
+        update.setHighestBidUsername(username);
+        update.setStatus("OPEN");
+        return update;
+    }
+
+    private List<String> sentFrames() throws Exception {
+        verify(session, atLeastOnce()).sendMessage(any());
+        return mockingDetails(session).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("sendMessage"))
+                .map(invocation -> ((TextMessage) invocation.getArgument(0)).getPayload())
+                .toList();
+    }
+}
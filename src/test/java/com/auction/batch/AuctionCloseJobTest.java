@@ -0,0 +1,77 @@
+package com.auction.batch;
+
+import com.auction.model.Auction;
+import com.auction.model.Money;
+import com.auction.repository.AuctionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Not transactional: the partitions of the job run on their own threads and only see committed auctions
+ */
+@SpringBootTest(properties = {"auction.closer.batch.partitions=3", "auction.closer.batch.chunk-size=4"})
+@ActiveProfiles("test")
+class AuctionCloseJobTest {
+
+    @Autowired
+    private AuctionCloseJobRunner auctionCloseJobRunner;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    private final List<Long> auctionIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        auctionRepository.deleteAllById(auctionIds);
+    }
+
+    @Test
+    void testRun_shouldCloseExpiredAuctionsOfAllPartitions() throws Exception {
+        // Given
+        for (int i = 0; i < 25; i++) {
+            createAuction("Expired Lot " + i, LocalDateTime.now().minusMinutes(i + 1));
+        }
+        Long openAuctionId = createAuction("Open Lot", LocalDateTime.now().plusDays(1));
+
+        // When
+        BatchStatus status = auctionCloseJobRunner.run(LocalDateTime.now());
+
+        // Then
+        assertEquals(BatchStatus.COMPLETED, status);
+        List<Auction> auctions = auctionRepository.findAllById(auctionIds);
+        assertEquals(25, auctions.stream().filter(a -> "CLOSED".equals(a.getStatus())).count());
+        assertEquals("OPEN", auctionRepository.findByAuctionId(openAuctionId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testRun_shouldCompleteWithoutExpiredAuctions() throws Exception {
+        // Given
+        createAuction("Open Lot", LocalDateTime.now().plusDays(1));
+
+        // When & Then
+        assertEquals(BatchStatus.COMPLETED, auctionCloseJobRunner.run(LocalDateTime.now().minusYears(10)));
+    }
+
+    private Long createAuction(String title, LocalDateTime expirationTime) {
+        Auction auction = new Auction();
+        auction.setTitle(title);
+        auction.setDescription("Auction closed by the batch job");
+        auction.setStatus("OPEN");
+        auction.setExpirationTime(expirationTime);
+        auction.setStartingPrice(Money.of("10.00"));
+        Long auctionId = auctionRepository.save(auction).getAuctionId();
+        auctionIds.add(auctionId);
+        return auctionId;
+    }
+}
@@ -0,0 +1,184 @@
+package com.auction.benchmark;
+
+import com.auction.api.model.bid.BidRequest;
+import com.auction.engine.AuctionWatermarks;
+import com.auction.engine.BidEngineMode;
+import com.auction.engine.BidGroupCommitter;
+import com.auction.engine.BidJournal;
+import com.auction.engine.BidSequencer;
+import com.auction.exception.InvalidBidException;
+import com.auction.model.Auction;
+import com.auction.model.Money;
+import com.auction.model.User;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.BidRepository;
+import com.auction.repository.UserRepository;
+import com.auction.service.BidService;
+import com.auction.service.SequenceService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Many bidders racing on a single auction, run once per bid engine mode that persists bids synchronously.
+ * Prints throughput, outcome counts and latency percentiles of every mode.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BidContentionBenchmarkTest {
+
+    private static final int BIDDERS = 16;
+    private static final int BIDS_PER_BIDDER = 200;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private SequenceService sequenceService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectProvider<BidSequencer> bidSequencer;
+
+    @Autowired
+    private ObjectProvider<BidGroupCommitter> bidGroupCommitter;
+
+    @Autowired
+    private ObjectProvider<BidJournal> bidJournal;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @ParameterizedTest
+    @EnumSource(value = BidEngineMode.class, names = {"LOCKING", "OPTIMISTIC", "CONDITIONAL"})
+    void benchmarkPlaceBidOnSingleAuction(BidEngineMode mode) throws Exception {
+        // Given
+        BidService bidService = new BidService(auctionRepository, userRepository, sequenceService, bidRepository,
+                transactionTemplate, bidSequencer, bidGroupCommitter, bidJournal, new AuctionWatermarks(false), eventPublisher, mode);
+        Long auctionId = createAuction(mode).getAuctionId();
+        List<Authentication> bidders = createBidders(mode);
+
+        AtomicLong nextAmount = new AtomicLong(10_000);
+        LongAccumulator highestAccepted = new LongAccumulator(Math::max, 0);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[BIDDERS * BIDS_PER_BIDDER];
+        AtomicInteger latencyIndex = new AtomicInteger();
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(BIDDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (Authentication bidder : bidders) {
+            results.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < BIDS_PER_BIDDER; i++) {
+                    long amount = nextAmount.incrementAndGet();
+                    BidRequest bidRequest = new BidRequest();
+                    bidRequest.setAmount(Money.ofCents(amount));
+
+                    long started = System.nanoTime();
+                    try {
+                        bidService.placeBid(bidder, auctionId, bidRequest);
+                        accepted.incrementAndGet();
+                        highestAccepted.accumulate(amount);
+                    } catch (InvalidBidException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[latencyIndex.getAndIncrement()] = System.nanoTime() - started;
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        Arrays.sort(latencies);
+        System.out.printf("%-12s %8.0f bids/s, accepted %5d, rejected %5d, failed %5d, p50 %6.2f ms, p99 %6.2f ms%n",
+                mode, latencies.length / (elapsed / 1_000_000_000.0), accepted.get(), rejected.get(), failed.get(),
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+
+        Auction auction = auctionRepository.findByAuctionId(auctionId).orElseThrow();
+        assertEquals(Money.ofCents(highestAccepted.get()), auction.getHighestBid());
+        assertEquals(accepted.get(), bidRepository.findAll().stream()
+                .filter(bid -> bid.getAuction().getAuctionId().equals(auctionId))
+                .count());
+    }
+
+    private Auction createAuction(BidEngineMode mode) {
+        Auction auction = new Auction();
+        auction.setTitle("Benchmark " + mode);
+        auction.setDescription("Auction raced on by all bidders");
+        auction.setStartingPrice(Money.of("100.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(1));
+        auction.setStatus("OPEN");
+        return auctionRepository.save(auction);
+    }
+
+    private List<Authentication> createBidders(BidEngineMode mode) {
+        List<Authentication> bidders = new ArrayList<>();
+        for (int i = 0; i < BIDDERS; i++) {
+            String username = "bidder_" + mode.name().toLowerCase() + "_" + i;
+            User user = new User();
+            user.setUsername(username);
+            user.setPassword("password123");
+            user.setEmail(username + "@auction.com");
+            user.setFullName("Bidder " + i);
+            userRepository.save(user);
+
+            bidders.add(new UsernamePasswordAuthenticationToken(
+                    org.springframework.security.core.userdetails.User.withUsername(username)
+                            .password("password123")
+                            .build(), null));
+        }
+        return bidders;
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,191 @@
+package com.auction.benchmark;
+
+import com.auction.engine.AcceptedBid;
+import com.auction.engine.BidGroupCommitter;
+import com.auction.engine.BidIdAllocator;
+import com.auction.model.Auction;
+import com.auction.model.Money;
+import com.auction.model.User;
+import com.auction.outbox.OutboxWriter;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.BidRepository;
+import com.auction.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Many bidders spread over a handful of auctions, with every bid going through a {@link BidGroupCommitter}.
+ * Run once per batching configuration, a batch size of 1 commits every bid on its own.
+ * Prints throughput, commits per second and latency percentiles of every configuration.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BidGroupCommitBenchmarkTest {
+
+    private static final int AUCTIONS = 8;
+    private static final int BIDDERS = 32;
+    private static final int BIDS_PER_BIDDER = 200;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @ParameterizedTest(name = "max-batch-size {0}, max-wait-micros {1}")
+    @CsvSource({"1, 0", "16, 100", "64, 500", "256, 2000"})
+    void benchmarkGroupCommit(int maxBatchSize, long maxWaitMicros) throws Exception {
+        // Given
+        String run = maxBatchSize + "_" + maxWaitMicros;
+        List<Long> auctionIds = createAuctions(run);
+        List<User> bidders = createBidders(run);
+        AtomicInteger commits = new AtomicInteger();
+        BidGroupCommitter bidGroupCommitter = new BidGroupCommitter(jdbcTemplate, countingCommits(commits),
+                new BidIdAllocator(jdbcTemplate, 100), outboxWriter, maxWaitMicros, maxBatchSize);
+        bidGroupCommitter.start();
+
+        Map<Long, AtomicLong> nextAmounts = new ConcurrentHashMap<>();
+        Map<Long, LongAccumulator> highestAccepted = new ConcurrentHashMap<>();
+        auctionIds.forEach(auctionId -> {
+            nextAmounts.put(auctionId, new AtomicLong(10_000));
+            highestAccepted.put(auctionId, new LongAccumulator(Math::max, 0));
+        });
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        long[] latencies = new long[BIDDERS * BIDS_PER_BIDDER];
+        AtomicInteger latencyIndex = new AtomicInteger();
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(BIDDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int b = 0; b < bidders.size(); b++) {
+            User bidder = bidders.get(b);
+            int firstAuction = b;
+            results.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < BIDS_PER_BIDDER; i++) {
+                    Long auctionId = auctionIds.get((firstAuction + i) % AUCTIONS);
+                    long amount = nextAmounts.get(auctionId).incrementAndGet();
+
+                    long started = System.nanoTime();
+                    Optional<AcceptedBid> acceptedBid = bidGroupCommitter.placeBid(auctionId, bidder, amount);
+                    latencies[latencyIndex.getAndIncrement()] = System.nanoTime() - started;
+                    if (acceptedBid.isPresent()) {
+                        accepted.incrementAndGet();
+                        highestAccepted.get(auctionId).accumulate(amount);
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        bidGroupCommitter.stop();
+
+        // Then
+        Arrays.sort(latencies);
+        System.out.printf("batch %4d, wait %5d us: %8.0f bids/s, %7.0f commits/s, accepted %5d, rejected %5d, p50 %6.2f ms, p99 %6.2f ms%n",
+                maxBatchSize, maxWaitMicros, latencies.length / elapsedSeconds, commits.get() / elapsedSeconds,
+                accepted.get(), rejected.get(), percentile(latencies, 0.50), percentile(latencies, 0.99));
+
+        for (Long auctionId : auctionIds) {
+            Auction auction = auctionRepository.findByAuctionId(auctionId).orElseThrow();
+            assertEquals(Money.ofCents(highestAccepted.get(auctionId).get()), auction.getHighestBid());
+        }
+        assertEquals(accepted.get(), bidRepository.findAll().stream()
+                .filter(bid -> auctionIds.contains(bid.getAuction().getAuctionId()))
+                .count());
+    }
+
+    private TransactionTemplate countingCommits(AtomicInteger commits) {
+        return new TransactionTemplate(transactionTemplate.getTransactionManager()) {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                T result = super.execute(action);
+                commits.incrementAndGet();
+                return result;
+            }
+        };
+    }
+
+    private List<Long> createAuctions(String run) {
+        List<Long> auctionIds = new ArrayList<>();
+        for (int i = 0; i < AUCTIONS; i++) {
+            Auction auction = new Auction();
+            auction.setTitle("Group commit " + run + " #" + i);
+            auction.setDescription("Auction shared by all bidders");
+            auction.setStartingPrice(Money.of("100.00"));
+            auction.setExpirationTime(LocalDateTime.now().plusDays(1));
+            auction.setStatus("OPEN");
+            auctionIds.add(auctionRepository.save(auction).getAuctionId());
+        }
+        return auctionIds;
+    }
+
+    private List<User> createBidders(String run) {
+        List<User> bidders = new ArrayList<>();
+        for (int i = 0; i < BIDDERS; i++) {
+            String username = "group_bidder_" + run + "_" + i;
+            User user = new User();
+            user.setUsername(username);
+            user.setPassword("password123");
+            user.setEmail(username + "@auction.com");
+            user.setFullName("Bidder " + i);
+            bidders.add(userRepository.save(user));
+        }
+        return bidders;
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
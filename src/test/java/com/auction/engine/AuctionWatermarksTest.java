@@ -0,0 +1,120 @@
+package com.auction.engine;
+
+import com.auction.event.AuctionChangedEvent;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.exception.AuctionClosedException;
+import com.auction.exception.AuctionTimeExpiredException;
+import com.auction.exception.InvalidBidException;
+import com.auction.model.Auction;
+import com.auction.model.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class AuctionWatermarksTest {
+
+    private static final Long AUCTION_ID = 5L;
+
+    private AuctionWatermarks auctionWatermarks;
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        auctionWatermarks = new AuctionWatermarks(true);
+
+        auction = new Auction();
+        auction.setAuctionId(AUCTION_ID);
+        auction.setVersion(1L);
+        auction.setStartingPrice(Money.of("100.00"));
+        auction.setHighestBid(Money.of("150.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(1));
+        auction.setStatus("OPEN");
+    }
+
+    @Test
+    void testRejectIfStale_shouldLetBidsThroughForUnknownAuction() {
+        assertDoesNotThrow(() -> auctionWatermarks.rejectIfStale(AUCTION_ID, 100L, LocalDateTime.now()));
+    }
+
+    @Test
+    void testRejectIfStale_shouldRejectBidNotAboveWatermark() {
+        // Given
+        auctionWatermarks.observe(auction);
+
+        // When & Then
+        assertThrowsExactly(InvalidBidException.class,
+                () -> auctionWatermarks.rejectIfStale(AUCTION_ID, 15_000L, LocalDateTime.now()));
+        assertDoesNotThrow(() -> auctionWatermarks.rejectIfStale(AUCTION_ID, 15_001L, LocalDateTime.now()));
+    }
+
+    @Test
+    void testRejectIfStale_shouldAdvanceWatermarkOnAcceptedBid() {
+        // Given
+        auctionWatermarks.observe(auction);
+        auctionWatermarks.onBidAccepted(new BidAcceptedEvent(AUCTION_ID, 1L, 1L, "john_doe", Money.of("200.00"), LocalDateTime.now()));
+
+        // When & Then
+        assertThrowsExactly(InvalidBidException.class,
+                () -> auctionWatermarks.rejectIfStale(AUCTION_ID, 18_000L, LocalDateTime.now()));
+    }
+
+    @Test
+    void testRejectIfStale_shouldNeverLowerWatermark() {
+        // Given
+        auctionWatermarks.observe(auction);
+        auctionWatermarks.onBidAccepted(new BidAcceptedEvent(AUCTION_ID, 1L, 1L, "john_doe", Money.of("200.00"), LocalDateTime.now()));
+        auctionWatermarks.observe(auction);
+
+        // When & Then
+        assertThrowsExactly(InvalidBidException.class,
+                () -> auctionWatermarks.rejectIfStale(AUCTION_ID, 18_000L, LocalDateTime.now()));
+    }
+
+    @Test
+    void testRejectIfStale_shouldRejectBidOnClosedOrExpiredAuction() {
+        // Given
+        auction.setStatus("CLOSED");
+        auctionWatermarks.observe(auction);
+
+        // When & Then
+        assertThrowsExactly(AuctionClosedException.class,
+                () -> auctionWatermarks.rejectIfStale(AUCTION_ID, 50_000L, LocalDateTime.now()));
+        assertThrowsExactly(AuctionTimeExpiredException.class,
+                () -> auctionWatermarks.rejectIfStale(AUCTION_ID, 50_000L, LocalDateTime.now().plusDays(2)));
+    }
+
+    @Test
+    void testRejectIfStale_shouldForgetWatermarkOnAuctionChange() {
+        // Given
+        auctionWatermarks.observe(auction);
+        auctionWatermarks.onAuctionChanged(new AuctionChangedEvent(AUCTION_ID, 2L));
+
+        // When & Then
+        assertDoesNotThrow(() -> auctionWatermarks.rejectIfStale(AUCTION_ID, 100L, LocalDateTime.now()));
+    }
+
+    @Test
+    void testRejectIfStale_shouldIgnoreVersionsOlderThanAuctionChange() {
+        // Given
+        auction.setStatus("CLOSED");
+        auctionWatermarks.onAuctionChanged(new AuctionChangedEvent(AUCTION_ID, 2L));
+
+        // When
+        auctionWatermarks.observe(auction);
+
+        // Then
+        assertDoesNotThrow(() -> auctionWatermarks.rejectIfStale(AUCTION_ID, 50_000L, LocalDateTime.now()));
+
+        // When
+        auction.setVersion(2L);
+        auctionWatermarks.observe(auction);
+
+        // Then
+        assertThrowsExactly(AuctionClosedException.class,
+                () -> auctionWatermarks.rejectIfStale(AUCTION_ID, 50_000L, LocalDateTime.now()));
+    }
+}
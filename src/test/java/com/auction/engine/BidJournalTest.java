@@ -0,0 +1,96 @@
+package com.auction.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class BidJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private BidBatchWriter bidBatchWriter;
+    private List<AcceptedBid> replayed;
+    private BidJournal bidJournal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bidBatchWriter = mock(BidBatchWriter.class);
+        replayed = new ArrayList<>();
+        doAnswer(invocation -> replayed.addAll(invocation.getArgument(0))).when(bidBatchWriter).replay(anyList());
+        bidJournal = openJournal();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        bidJournal.close();
+    }
+
+    @Test
+    void testOpen_shouldReplayBidsPastCheckpoint() throws IOException {
+        // Given
+        LocalDateTime bidTime = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_789);
+        long first = bidJournal.append(new AcceptedBid(1L, 11L, "Vintage Car", 7L, "john_doe", 15_000L, bidTime));
+        bidJournal.append(new AcceptedBid(2L, 11L, "Vintage Car", 8L, "jane_doe", 17_550L, bidTime));
+        bidJournal.append(new AcceptedBid(3L, 12L, "Old Watch", 7L, "john_doe", 2_000L, bidTime));
+        bidJournal.checkpoint(first);
+        bidJournal.close();
+
+        // When
+        bidJournal = openJournal();
+
+        // Then
+        assertEquals(2, replayed.size());
+        assertEquals(new AcceptedBid(2L, 11L, null, 8L, null, 17_550L, bidTime), replayed.get(0));
+        assertEquals(new AcceptedBid(3L, 12L, null, 7L, null, 2_000L, bidTime), replayed.get(1));
+    }
+
+    @Test
+    void testOpen_shouldNotReplayBidsTwice() throws IOException {
+        // Given
+        bidJournal.append(new AcceptedBid(1L, 11L, "Vintage Car", 7L, "john_doe", 15_000L, LocalDateTime.now()));
+        bidJournal.close();
+        bidJournal = openJournal();
+        replayed.clear();
+        bidJournal.close();
+
+        // When
+        bidJournal = openJournal();
+
+        // Then
+        assertTrue(replayed.isEmpty());
+    }
+
+    @Test
+    void testAppend_shouldContinueSequenceAfterReplay() throws IOException {
+        // Given
+        long first = bidJournal.append(new AcceptedBid(1L, 11L, "Vintage Car", 7L, "john_doe", 15_000L, LocalDateTime.now()));
+        bidJournal.close();
+
+        // When
+        bidJournal = openJournal();
+        long next = bidJournal.append(new AcceptedBid(2L, 11L, "Vintage Car", 8L, "jane_doe", 17_550L, LocalDateTime.now()));
+
+        // Then
+        assertEquals(first + 1, next);
+    }
+
+    private BidJournal openJournal() throws IOException {
+        BidJournal journal = new BidJournal(bidBatchWriter, directory.toString(), 1, 64, 10);
+        journal.open();
+        return journal;
+    }
+}
@@ -0,0 +1,134 @@
+package com.auction.engine;
+
+import com.auction.event.AuctionChangedEvent;
+import com.auction.exception.AuctionClosedException;
+import com.auction.exception.InvalidBidException;
+import com.auction.exception.ResourceNotFoundException;
+import com.auction.model.Auction;
+import com.auction.model.Money;
+import com.auction.model.User;
+import com.auction.repository.AuctionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BidSequencerTest {
+
+    private static final Long AUCTION_ID = 11L;
+
+    private AuctionRepository auctionRepository;
+    private BidWriteBehind bidWriteBehind;
+    private BidSequencer bidSequencer;
+    private Auction auction;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        bidWriteBehind = mock(BidWriteBehind.class);
+        BidIdAllocator bidIdAllocator = mock(BidIdAllocator.class);
+        AtomicLong ids = new AtomicLong();
+        when(bidIdAllocator.nextId()).thenAnswer(invocation -> ids.incrementAndGet());
+
+        auction = new Auction();
+        auction.setAuctionId(AUCTION_ID);
+        auction.setTitle("Vintage Car");
+        auction.setStartingPrice(Money.of("100.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(1));
+        auction.setStatus("OPEN");
+        when(auctionRepository.findByAuctionId(anyLong())).thenReturn(Optional.empty());
+        when(auctionRepository.findByAuctionId(AUCTION_ID)).thenReturn(Optional.of(auction));
+
+        user = new User();
+        user.setUserId(7L);
+        user.setUsername("johndoe");
+
+        bidSequencer = new BidSequencer(auctionRepository, bidWriteBehind, bidIdAllocator, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bidSequencer.shutdown();
+    }
+
+    @Test
+    void testPlaceBid_shouldAcceptOnlyIncreasingBidsUnderContention() throws Exception {
+        // Given
+        List<Long> amounts = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            amounts.add(10_000L + i * 100L);
+        }
+        Collections.shuffle(amounts);
+
+        // When
+        ExecutorService bidders = Executors.newFixedThreadPool(8);
+        List<Future<?>> results = new ArrayList<>();
+        for (Long amount : amounts) {
+            results.add(bidders.submit(() -> {
+                try {
+                    bidSequencer.placeBid(AUCTION_ID, user, amount);
+                } catch (InvalidBidException ignored) {
+                    // outbid by a concurrent bidder
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        bidders.shutdown();
+
+        // Then
+        ArgumentCaptor<AcceptedBid> accepted = ArgumentCaptor.forClass(AcceptedBid.class);
+        verify(bidWriteBehind, atLeastOnce()).enqueue(accepted.capture());
+        List<AcceptedBid> acceptedBids = accepted.getAllValues();
+        for (int i = 1; i < acceptedBids.size(); i++) {
+            assertTrue(acceptedBids.get(i).amount() > acceptedBids.get(i - 1).amount());
+        }
+        assertEquals(30_000L, acceptedBids.get(acceptedBids.size() - 1).amount());
+    }
+
+    @Test
+    void testPlaceBid_shouldRejectBidNotAboveHighestBid() {
+        // Given
+        bidSequencer.placeBid(AUCTION_ID, user, 15_000L);
+
+        // When & Then
+        assertThrows(InvalidBidException.class, () -> bidSequencer.placeBid(AUCTION_ID, user, 15_000L));
+    }
+
+    @Test
+    void testPlaceBid_shouldRejectBidOnClosedAuction() {
+        // Given
+        bidSequencer.placeBid(AUCTION_ID, user, 15_000L);
+        auction.setStatus("CLOSED");
+        bidSequencer.onAuctionChanged(new AuctionChangedEvent(AUCTION_ID, 2L));
+
+        // When & Then
+        assertThrows(AuctionClosedException.class, () -> bidSequencer.placeBid(AUCTION_ID, user, 20_000L));
+    }
+
+    @Test
+    void testPlaceBid_shouldThrowExceptionWhenAuctionNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> bidSequencer.placeBid(999L, user, 15_000L));
+    }
+}
@@ -0,0 +1,61 @@
+package com.auction.engine;
+
+import com.auction.service.AbstractServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two instances sharing one database, each with its own owner id
+ */
+class CloserLeasesTest extends AbstractServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CloserLeases nodeA;
+    private CloserLeases nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("UPDATE closer_lease SET owner = NULL, lease_until = NULL");
+        nodeA = new CloserLeases(jdbcTemplate, 4, 300, "node-a");
+        nodeB = new CloserLeases(jdbcTemplate, 4, 300, "node-b");
+        nodeA.addSlices();
+        nodeB.addSlices();
+    }
+
+    @Test
+    void testTryClaim_shouldGiveSliceToOneInstanceOnly() {
+        assertTrue(nodeA.tryClaim(0));
+        assertFalse(nodeB.tryClaim(0));
+        assertTrue(nodeB.tryClaim(1));
+        assertTrue(nodeA.tryClaim(0), "A lease held already is renewed");
+    }
+
+    @Test
+    void testRelease_shouldFreeSliceForOtherInstances() {
+        // Given
+        nodeA.tryClaim(0);
+
+        // When
+        nodeA.release(0);
+
+        // Then
+        assertTrue(nodeB.tryClaim(0));
+    }
+
+    @Test
+    void testTryClaim_shouldTakeOverExpiredLease() {
+        // Given
+        CloserLeases crashedNode = new CloserLeases(jdbcTemplate, 4, 0, "crashed-node");
+        crashedNode.tryClaim(2);
+
+        // When & Then
+        assertTrue(nodeB.tryClaim(2));
+    }
+}
@@ -0,0 +1,131 @@
+package com.auction.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingBroadcasterTest {
+
+    private CoalescingBroadcaster<Long, Integer> broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new CoalescingBroadcaster<>("test-broadcaster", 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        broadcaster.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testPublish_shouldSkipToLatestValueForSlowSubscriber() throws InterruptedException {
+        // Given
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        broadcaster.subscribe(1L, value -> {
+            received.add(value);
+            sending.countDown();
+            release.await();
+            done.countDown();
+        });
+
+        // When
+        broadcaster.publish(1L, 1);
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+        for (int value = 2; value <= 100; value++) {
+            broadcaster.publish(1L, value);
+        }
+        release.countDown();
+
+        // Then
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 100), received);
+    }
+
+    @Test
+    void testPublish_shouldDropValuesOlderThanOfferedOne() throws InterruptedException {
+        // Given
+        CoalescingBroadcaster<Long, Integer> ordered = new CoalescingBroadcaster<>("ordered-broadcaster", 1,
+                Comparator.naturalOrder());
+        CountDownLatch sent = new CountDownLatch(1);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        ordered.subscribe(1L, value -> {
+            received.add(value);
+            sent.countDown();
+        });
+        ordered.publish(1L, 2);
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+
+        // When
+        ordered.publish(1L, 1);
+
+        // Then
+        Thread.sleep(50);
+        assertEquals(List.of(2), received);
+        ordered.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testOfferInitial_shouldNotOverwritePublishedValue() throws InterruptedException {
+        // Given
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CoalescingBroadcaster<Long, Integer>.Subscription subscription = broadcaster.subscribe(1L, value -> {
+            received.add(value);
+            done.countDown();
+        });
+        broadcaster.publish(1L, 2);
+
+        // When
+        subscription.offerInitial(1);
+
+        // Then
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(List.of(2), received);
+    }
+
+    @Test
+    void testSubscriber_shouldBeDroppedWhenSendFails() throws InterruptedException {
+        // Given
+        CountDownLatch failed = new CountDownLatch(1);
+        broadcaster.subscribe(1L, value -> {
+            failed.countDown();
+            throw new IllegalStateException("Connection reset");
+        });
+
+        // When
+        broadcaster.publish(1L, 1);
+
+        // Then
+        assertTrue(failed.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertFalse(broadcaster.hasSubscribers(1L));
+    }
+
+    @Test
+    void testCancel_shouldRemoveSubscriber() {
+        // Given
+        CoalescingBroadcaster<Long, Integer>.Subscription first = broadcaster.subscribe(1L, value -> { });
+        broadcaster.subscribe(1L, value -> { });
+
+        // When
+        first.cancel();
+
+        // Then
+        assertEquals(1, broadcaster.subscriberCount(1L));
+    }
+}
@@ -0,0 +1,90 @@
+package com.auction.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExpiryIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 12, 16, 0);
+
+    @Test
+    void testNext_shouldReturnValuesExpiringNextFirst() {
+        // Given
+        ExpiryIndex<String> index = new ExpiryIndex<>();
+        index.put(1L, NOW.plusHours(3), "third");
+        index.put(2L, NOW.plusHours(1), "first");
+        index.put(3L, NOW.plusHours(2), "second");
+        index.put(4L, NOW.plusHours(2), "second, higher id");
+
+        // When
+        List<String> next = index.next(NOW, 3);
+
+        // Then
+        assertEquals(List.of("first", "second", "second, higher id"), next);
+    }
+
+    @Test
+    void testNext_shouldSkipAndDropExpiredValues() {
+        // Given
+        ExpiryIndex<String> index = new ExpiryIndex<>();
+        index.put(1L, NOW.minusMinutes(1), "expired");
+        index.put(2L, NOW.plusMinutes(1), "open");
+
+        // When
+        List<String> next = index.next(NOW, 10);
+
+        // Then
+        assertEquals(List.of("open"), next);
+        assertEquals(1, index.size());
+        assertNull(index.get(1L));
+    }
+
+    @Test
+    void testPut_shouldRefileValueExpiringAtAnotherTime() {
+        // Given
+        ExpiryIndex<String> index = new ExpiryIndex<>();
+        index.put(1L, NOW.plusHours(1), "extended");
+        index.put(2L, NOW.plusHours(2), "other");
+
+        // When
+        index.put(1L, NOW.plusHours(3), "extended");
+
+        // Then
+        assertEquals(List.of("other", "extended"), index.next(NOW, 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testUpdate_shouldReplaceValueInPlace() {
+        // Given
+        ExpiryIndex<String> index = new ExpiryIndex<>();
+        index.put(1L, NOW.plusHours(1), "100.00");
+
+        // When
+        index.update(1L, value -> "250.00");
+        index.update(2L, value -> "missing");
+
+        // Then
+        assertEquals(List.of("250.00"), index.next(NOW, 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testRemove_shouldDropValue() {
+        // Given
+        ExpiryIndex<String> index = new ExpiryIndex<>();
+        index.put(1L, NOW.plusHours(1), "closed");
+        index.put(2L, NOW.plusHours(2), "open");
+
+        // When
+        index.remove(1L);
+
+        // Then
+        assertEquals(List.of("open"), index.next(NOW, 10));
+    }
+}
@@ -0,0 +1,69 @@
+package com.auction.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IdempotencyCacheTest {
+
+    @Test
+    void testPutIfAbsent_shouldReturnOutcomeOfFirstRequest() {
+        // Given
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1));
+        CompletableFuture<String> first = new CompletableFuture<>();
+
+        // When & Then
+        assertNull(cache.putIfAbsent("key", first));
+        assertSame(first, cache.putIfAbsent("key", new CompletableFuture<>()));
+    }
+
+    @Test
+    void testPutIfAbsent_shouldReplaceExpiredEntry() {
+        // Given
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, Duration.ZERO);
+        cache.putIfAbsent("key", new CompletableFuture<>());
+
+        // When & Then
+        assertNull(cache.putIfAbsent("key", new CompletableFuture<>()));
+    }
+
+    @Test
+    void testPutIfAbsent_shouldEvictOldestEntryWhenFull() {
+        // Given
+        IdempotencyCache<String> cache = new IdempotencyCache<>(2, Duration.ofMinutes(1));
+        cache.putIfAbsent("first", new CompletableFuture<>());
+        cache.putIfAbsent("second", new CompletableFuture<>());
+
+        // When
+        cache.putIfAbsent("third", new CompletableFuture<>());
+
+        // Then
+        assertEquals(2, cache.size());
+        assertNull(cache.putIfAbsent("first", new CompletableFuture<>()));
+    }
+
+    @Test
+    void testRemove_shouldOnlyRemoveGivenOutcome() {
+        // Given
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1));
+        CompletableFuture<String> first = new CompletableFuture<>();
+        cache.putIfAbsent("key", first);
+
+        // When
+        cache.remove("key", new CompletableFuture<>());
+
+        // Then
+        assertSame(first, cache.putIfAbsent("key", new CompletableFuture<>()));
+
+        // When
+        cache.remove("key", first);
+
+        // Then
+        assertNull(cache.putIfAbsent("key", new CompletableFuture<>()));
+    }
+}
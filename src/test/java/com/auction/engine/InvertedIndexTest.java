@@ -0,0 +1,115 @@
+package com.auction.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+    @Test
+    void testSearch_shouldReturnOnlyDocumentsContainingAllTerms() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, new InvertedIndex.Field("Antique Vase", 3), new InvertedIndex.Field("Ming dynasty porcelain", 1));
+        index.put(2L, new InvertedIndex.Field("Porcelain Plate", 3), new InvertedIndex.Field("Qing dynasty", 1));
+        index.put(3L, new InvertedIndex.Field("Vase", 3), new InvertedIndex.Field("Modern glass", 1));
+
+        // When
+        List<InvertedIndex.Hit> hits = index.search("porcelain, DYNASTY", 10);
+
+        // Then
+        assertEquals(List.of(1L, 2L), hits.stream().map(InvertedIndex.Hit::documentId).sorted().toList());
+    }
+
+    @Test
+    void testSearch_shouldRankTitleMatchesFirst() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, new InvertedIndex.Field("Lamp", 3), new InvertedIndex.Field("Goes well with a vase", 1));
+        index.put(2L, new InvertedIndex.Field("Vase", 3), new InvertedIndex.Field("Blue", 1));
+
+        // When
+        List<InvertedIndex.Hit> hits = index.search("vase", 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), hits.stream().map(InvertedIndex.Hit::documentId).toList());
+    }
+
+    @Test
+    void testSearch_shouldReturnBestHitsUpToLimit() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        for (long documentId = 1; documentId <= 50; documentId++) {
+            index.put(documentId, new InvertedIndex.Field(documentId == 42 ? "Vase vase" : "Vase", 1));
+        }
+
+        // When
+        List<InvertedIndex.Hit> hits = index.search("vase", 3);
+
+        // Then
+        assertEquals(List.of(42L, 50L, 49L), hits.stream().map(InvertedIndex.Hit::documentId).toList());
+    }
+
+    @Test
+    void testPut_shouldReplacePreviousTerms() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, new InvertedIndex.Field("Antique Vase", 1));
+
+        // When
+        index.put(1L, new InvertedIndex.Field("Antique Lamp", 1));
+
+        // Then
+        assertTrue(index.search("vase", 10).isEmpty());
+        assertEquals(1, index.search("antique lamp", 10).size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testRemove_shouldDropDocument() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, new InvertedIndex.Field("Antique Vase", 1));
+        index.put(2L, new InvertedIndex.Field("Vase", 1));
+
+        // When
+        index.remove(1L);
+
+        // Then
+        assertEquals(List.of(2L), index.search("vase", 10).stream().map(InvertedIndex.Hit::documentId).toList());
+        assertTrue(index.search("antique", 10).isEmpty());
+    }
+
+    @Test
+    void testPutAll_shouldIndexBuiltDocumentsAlongIndexedOnes() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put(2L, new InvertedIndex.Field("Antique Lamp", 1));
+        InvertedIndex.Builder builder = new InvertedIndex.Builder()
+                .add(1L, new InvertedIndex.Field("Antique Vase", 1))
+                .add(2L, new InvertedIndex.Field("Antique Vase", 1))
+                .add(3L, new InvertedIndex.Field("Vase", 1));
+
+        // When
+        index.putAll(builder);
+
+        // Then
+        assertEquals(List.of(1L, 3L), index.search("vase", 10).stream().map(InvertedIndex.Hit::documentId).sorted().toList());
+        assertEquals(List.of(1L, 2L), index.search("antique", 10).stream().map(InvertedIndex.Hit::documentId).sorted().toList());
+        assertEquals(List.of(2L), index.search("lamp", 10).stream().map(InvertedIndex.Hit::documentId).toList());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testBuilder_shouldRejectDocumentsOutOfIdOrder() {
+        // Given
+        InvertedIndex.Builder builder = new InvertedIndex.Builder().add(2L, new InvertedIndex.Field("Vase", 1));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1L, new InvertedIndex.Field("Lamp", 1)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.auction.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadThroughCacheTest {
+
+    @Test
+    void testGet_shouldLoadOnlyOnce() {
+        // Given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, key -> "auction " + loads.incrementAndGet());
+        String value = cache.get(1L, key -> "auction " + loads.incrementAndGet());
+
+        // Then
+        assertEquals("auction 1", value);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_shouldCoalesceConcurrentMisses() throws Exception {
+        // Given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(1L, key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "auction";
+        }));
+        assertTrue(loading.await(1, TimeUnit.SECONDS));
+
+        // When
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return "reloaded";
+        }));
+        release.countDown();
+
+        // Then
+        assertEquals("auction", first.get(1, TimeUnit.SECONDS));
+        assertEquals("auction", second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testInvalidate_shouldDropValueLoadedMeanwhile() {
+        // Given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1));
+
+        // When
+        cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        // Then
+        assertEquals("fresh", cache.get(1L, key -> "fresh"));
+    }
+
+    @Test
+    void testGet_shouldNotCacheFailedLoad() {
+        // Given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1));
+
+        // When
+        assertThrowsExactly(IllegalStateException.class, () -> cache.get(1L, key -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+
+        // Then
+        assertEquals("auction", cache.get(1L, key -> "auction"));
+    }
+
+    @Test
+    void testGet_shouldReloadExpiredEntry() {
+        // Given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ZERO);
+        cache.get(1L, key -> "old");
+
+        // When & Then
+        assertEquals("new", cache.get(1L, key -> "new"));
+    }
+
+    @Test
+    void testGet_shouldEvictOldestEntryWhenFull() {
+        // Given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(2, Duration.ofMinutes(1));
+        cache.get(1L, key -> "first");
+        cache.get(2L, key -> "second");
+
+        // When
+        cache.get(3L, key -> "third");
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals("reloaded", cache.get(1L, key -> "reloaded"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.auction.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private TimingWheel<Long> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel<>(100, 8, START);
+    }
+
+    @Test
+    void testAdvance_shouldReturnKeysOnceTheirDeadlinePassed() {
+        // Given
+        wheel.schedule(1L, START + 250);
+        wheel.schedule(2L, START + 420);
+
+        // When & Then
+        assertTrue(wheel.advance(START + 200).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(START + 300));
+        assertEquals(List.of(2L), wheel.advance(START + 500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_shouldHandleDeadlinesBeyondOneRotation() {
+        // Given
+        wheel.schedule(1L, START + 1_250);
+
+        // When & Then
+        assertTrue(wheel.advance(START + 1_000).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(START + 1_300));
+    }
+
+    @Test
+    void testAdvance_shouldReturnOverdueKeysAfterLongPause() {
+        // Given
+        wheel.schedule(1L, START + 150);
+        wheel.schedule(2L, START + 2_450);
+
+        // When
+        List<Long> due = wheel.advance(START + 5_000);
+
+        // Then
+        assertEquals(2, due.size());
+        assertTrue(due.containsAll(List.of(1L, 2L)));
+    }
+
+    @Test
+    void testSchedule_shouldReplacePreviousDeadline() {
+        // Given
+        wheel.schedule(1L, START + 150);
+
+        // When
+        wheel.schedule(1L, START + 650);
+
+        // Then
+        assertTrue(wheel.advance(START + 300).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(START + 700));
+    }
+
+    @Test
+    void testSchedule_shouldMakePastDeadlineDueOnNextAdvance() {
+        // Given
+        wheel.schedule(1L, START - 5_000);
+
+        // When & Then
+        assertEquals(List.of(1L), wheel.advance(START + 100));
+    }
+
+    @Test
+    void testCancel_shouldDropKey() {
+        // Given
+        wheel.schedule(1L, START + 150);
+
+        // When
+        wheel.cancel(1L);
+
+        // Then
+        assertTrue(wheel.advance(START + 300).isEmpty());
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,45 @@
+package com.auction.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testOf_shouldConvertDecimalAmountToCents() {
+        assertEquals(12_050L, Money.of("120.5").cents());
+        assertEquals(12_050L, Money.of(new BigDecimal("120.50")).cents());
+        assertEquals(7L, Money.of("0.07").cents());
+    }
+
+    @Test
+    void testOf_shouldRejectFractionsOfCents() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of("120.505"));
+    }
+
+    @Test
+    void testToString_shouldAlwaysPrintTwoDecimalPlaces() {
+        assertEquals("150.00", Money.ofCents(15_000L).toString());
+        assertEquals("0.07", Money.format(7L));
+    }
+
+    @Test
+    void testJson_shouldSerializeAsDecimalNumber() throws Exception {
+        assertEquals("250.00", objectMapper.writeValueAsString(Money.of("250")));
+        assertEquals(Money.of("250.00"), objectMapper.readValue("250.00", Money.class));
+        assertEquals(Money.of("250.00"), objectMapper.readValue("250", Money.class));
+    }
+
+    @Test
+    void testCentsOrNone_shouldMapMissingAmountBelowEveryAmount() {
+        assertEquals(Money.NO_AMOUNT, Money.centsOrNone(null));
+        assertEquals(1L, Money.centsOrNone(Money.ofCents(1L)));
+    }
+}
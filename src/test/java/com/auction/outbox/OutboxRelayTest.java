@@ -0,0 +1,179 @@
+package com.auction.outbox;
+
+import com.auction.engine.AcceptedBid;
+import com.auction.engine.BidBatchWriter;
+import com.auction.engine.BidIdAllocator;
+import com.auction.event.BidAcceptedEvent;
+import com.auction.model.Auction;
+import com.auction.model.Bid;
+import com.auction.model.Money;
+import com.auction.model.User;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.BidRepository;
+import com.auction.repository.UserRepository;
+import com.auction.service.AbstractServiceTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboxRelayTest extends AbstractServiceTest {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private BidBatchWriter bidBatchWriter;
+
+    @Autowired
+    private BidIdAllocator bidIdAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<OutboxMessage> published = new ArrayList<>();
+    private OutboxRelay outboxRelay;
+    private Auction auction;
+    private User firstBidder;
+    private User secondBidder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        published.clear();
+        outboxRelay = new OutboxRelay(jdbcTemplate, objectMapper, published::addAll, 2, 24);
+
+        auction = new Auction();
+        auction.setTitle("Antique Clock");
+        auction.setDescription("A clock from the 18th century");
+        auction.setStatus("OPEN");
+        auction.setExpirationTime(LocalDateTime.now().plusDays(1));
+        auction.setStartingPrice(Money.of("100.00"));
+        auctionRepository.saveAndFlush(auction);
+
+        firstBidder = saveUser("outbox_first_bidder");
+        secondBidder = saveUser("outbox_second_bidder");
+    }
+
+    @Test
+    void testRelay_shouldPublishEventsWithDerivedOutbidInOrder() {
+        // Given
+        outboxWriter.onBidAccepted(acceptedEvent(saveBid(firstBidder, "150.00"), firstBidder));
+        Bid outbidding = saveBid(secondBidder, "200.00");
+        outboxWriter.onBidAccepted(acceptedEvent(outbidding, secondBidder));
+        outboxWriter.appendAuctionsClosed(List.of(auction.getAuctionId()), LocalDateTime.now());
+
+        // When
+        int relayed = outboxRelay.relay();
+
+        // Then
+        assertEquals(3, relayed);
+        assertEquals(List.of(OutboxEventType.BID_ACCEPTED, OutboxEventType.BID_ACCEPTED, OutboxEventType.OUTBID,
+                        OutboxEventType.AUCTION_CLOSED),
+                published.stream().map(OutboxMessage::eventType).toList());
+
+        OutboxMessage outbid = published.get(2);
+        assertEquals(auction.getAuctionId(), outbid.aggregateId());
+        assertTrue(outbid.payload().contains("\"userId\":" + firstBidder.getUserId()));
+        assertTrue(outbid.payload().contains("\"outbidByBidId\":" + outbidding.getBidId()));
+        assertTrue(published.get(3).payload().contains("\"auctionId\":" + auction.getAuctionId()));
+    }
+
+    @Test
+    void testRelay_shouldPublishEventsOfBidsWrittenBehindWithDerivedOutbid() {
+        // Given
+        LocalDateTime bidTime = LocalDateTime.now();
+        long firstBidId = bidIdAllocator.nextId();
+        long outbiddingBidId = bidIdAllocator.nextId();
+        bidBatchWriter.write(List.of(
+                new AcceptedBid(firstBidId, auction.getAuctionId(), auction.getTitle(), firstBidder.getUserId(),
+                        firstBidder.getUsername(), 15_000L, bidTime),
+                new AcceptedBid(outbiddingBidId, auction.getAuctionId(), auction.getTitle(), secondBidder.getUserId(),
+                        null, 20_000L, bidTime)));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        assertEquals(List.of(OutboxEventType.BID_ACCEPTED, OutboxEventType.BID_ACCEPTED, OutboxEventType.OUTBID),
+                published.stream().map(OutboxMessage::eventType).toList());
+        assertTrue(published.get(1).payload().contains("\"username\":\"" + secondBidder.getUsername() + "\""));
+        assertTrue(published.get(2).payload().contains("\"userId\":" + firstBidder.getUserId()));
+        assertTrue(published.get(2).payload().contains("\"outbidByBidId\":" + outbiddingBidId));
+    }
+
+    @Test
+    void testRelay_shouldNotPublishEventsTwice() {
+        // Given
+        outboxWriter.appendAuctionsClosed(List.of(auction.getAuctionId()), LocalDateTime.now());
+        outboxRelay.relay();
+        published.clear();
+
+        // When
+        int relayed = outboxRelay.relay();
+
+        // Then
+        assertEquals(0, relayed);
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void testRelay_shouldKeepEventsWhenSinkFails() {
+        // Given
+        outboxWriter.appendAuctionsClosed(List.of(auction.getAuctionId()), LocalDateTime.now());
+        OutboxRelay failingRelay = new OutboxRelay(jdbcTemplate, objectMapper, messages -> {
+            throw new IllegalStateException("Sink unavailable");
+        }, 2, 24);
+
+        // When
+        int failed = failingRelay.relay();
+        int relayed = outboxRelay.relay();
+
+        // Then
+        assertEquals(0, failed);
+        assertEquals(1, relayed);
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password123");
+        user.setEmail(username + "@auction.com");
+        user.setFullName(username);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private Bid saveBid(User user, String amount) {
+        Bid bid = new Bid();
+        bid.setAuction(auction);
+        bid.setUser(user);
+        bid.setAmount(Money.of(amount));
+        bid.setBidTime(LocalDateTime.now());
+        return bidRepository.saveAndFlush(bid);
+    }
+
+    private BidAcceptedEvent acceptedEvent(Bid bid, User user) {
+        return new BidAcceptedEvent(auction.getAuctionId(), bid.getBidId(), user.getUserId(), user.getUsername(),
+                bid.getAmount(), bid.getBidTime());
+    }
+}
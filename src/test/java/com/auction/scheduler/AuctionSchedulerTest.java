@@ -1,11 +1,21 @@
 package com.auction.scheduler;
 
+import com.auction.batch.AuctionCloseJobRunner;
+import com.auction.engine.AuctionBulkCloser;
+import com.auction.engine.AuctionSweepMode;
+import com.auction.engine.CloseRunStats;
+import com.auction.engine.CloserLeases;
 import com.auction.model.Auction;
+import com.auction.model.Money;
+import com.auction.outbox.OutboxWriter;
 import com.auction.repository.AuctionRepository;
 import com.auction.service.AbstractServiceTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,6 +30,24 @@ class AuctionSchedulerTest extends AbstractServiceTest {
     @Autowired
     private AuctionRepository auctionRepository;
 
+    @Autowired
+    private AuctionCloseJobRunner auctionCloseJobRunner;
+
+    @Autowired
+    private CloserLeases closerLeases;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
     @BeforeEach
     void setUp() {
         auctionRepository.deleteAll();
@@ -32,7 +60,7 @@ class AuctionSchedulerTest extends AbstractServiceTest {
         auction1.setDescription("A beautiful golden watch");
         auction1.setStatus("OPEN");
         auction1.setExpirationTime(LocalDateTime.now().minusDays(1));
-        auction1.setStartingPrice(450.00);
+        auction1.setStartingPrice(Money.of("450.00"));
         auctionRepository.save(auction1);
 
         // non-expired
@@ -41,7 +69,7 @@ class AuctionSchedulerTest extends AbstractServiceTest {
         auction2.setDescription("A carved statue from a beautiful wooden tree");
         auction2.setStatus("OPEN");
         auction2.setExpirationTime(LocalDateTime.now().plusDays(1));
-        auction2.setStartingPrice(300.00);
+        auction2.setStartingPrice(Money.of("300.00"));
         auctionRepository.save(auction2);
     }
 
@@ -57,4 +85,69 @@ class AuctionSchedulerTest extends AbstractServiceTest {
         long openAuctions = auctions.stream().filter(a -> "OPEN".equals(a.getStatus())).count();
         assertEquals(1, openAuctions, "Only 1 auction should remain open");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCloseExpiredAuctions_shouldCloseBacklogInChunks() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            Auction auction = new Auction();
+            auction.setTitle("Expired Lot " + i);
+            auction.setDescription("A lot which expired during an outage");
+            auction.setStatus("OPEN");
+            auction.setExpirationTime(LocalDateTime.now().minusHours(i + 1));
+            auction.setStartingPrice(Money.of("10.00"));
+            auctionRepository.save(auction);
+        }
+        AuctionBulkCloser auctionBulkCloser = new AuctionBulkCloser(auctionRepository, transactionTemplate, eventPublisher, outboxWriter, 2);
+
+        // When
+        CloseRunStats stats = auctionBulkCloser.closeExpired(LocalDateTime.now());
+
+        // Then
+        assertEquals(5, stats.auctionsClosed());
+        assertEquals(3, stats.chunks());
+        assertEquals(1, auctionRepository.findAll().stream().filter(a -> "OPEN".equals(a.getStatus())).count());
+    }
+
+    @Test
+    void testCloseExpiredAuctions_shouldCloseEntitiesInEntityMode() {
+        // Given
+        AuctionScheduler entityScheduler = new AuctionScheduler(auctionRepository,
+                new AuctionBulkCloser(auctionRepository, transactionTemplate, eventPublisher, outboxWriter, 2),
+                auctionCloseJobRunner, closerLeases, transactionTemplate, eventPublisher, outboxWriter, AuctionSweepMode.ENTITY, false);
+
+        // When
+        entityScheduler.closeExpiredAuctions();
+
+        // Then
+        List<Auction> auctions = auctionRepository.findAll();
+        assertEquals(1, auctions.stream().filter(a -> "CLOSED".equals(a.getStatus())).count());
+        assertEquals(1, auctions.stream().filter(a -> "OPEN".equals(a.getStatus())).count());
+    }
+
+    @Test
+    void testCloseExpiredAuctions_shouldSweepClaimedSlicesWithLeasing() {
+        // Given
+        for (int i = 0; i < 6; i++) {
+            Auction auction = new Auction();
+            auction.setTitle("Expired Lot " + i);
+            auction.setDescription("A lot swept slice by slice");
+            auction.setStatus("OPEN");
+            auction.setExpirationTime(LocalDateTime.now().minusHours(i + 1));
+            auction.setStartingPrice(Money.of("10.00"));
+            auctionRepository.save(auction);
+        }
+        CloserLeases leases = new CloserLeases(jdbcTemplate, 4, 300, "node-a");
+        leases.addSlices();
+        AuctionScheduler leasingScheduler = new AuctionScheduler(auctionRepository,
+                new AuctionBulkCloser(auctionRepository, transactionTemplate, eventPublisher, outboxWriter, 2),
+                auctionCloseJobRunner, leases, transactionTemplate, eventPublisher, outboxWriter, AuctionSweepMode.BULK, true);
+
+        // When
+        leasingScheduler.closeExpiredAuctions();
+
+        // Then
+        assertEquals(1, auctionRepository.findAll().stream().filter(a -> "OPEN".equals(a.getStatus())).count());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM closer_lease WHERE owner = 'node-a'", Integer.class));
+    }
+}
@@ -2,11 +2,15 @@ package com.auction.service;
 
 import com.auction.api.model.auction.AuctionRequest;
 import com.auction.api.model.auction.AuctionResponse;
+import com.auction.api.model.auction.AuctionSearchRequest;
+import com.auction.api.model.auction.AuctionSliceResponse;
+import com.auction.api.model.auction.AuctionSort;
 import com.auction.api.model.auction.AuctionStatusResponse;
 import com.auction.api.model.auction.AuctionUpdateRequest;
 import com.auction.exception.AuctionModificationException;
 import com.auction.exception.ResourceNotFoundException;
 import com.auction.model.Auction;
+import com.auction.model.Money;
 import com.auction.repository.AuctionRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +18,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AuctionServiceTest extends AbstractServiceTest {
@@ -37,7 +44,7 @@ class AuctionServiceTest extends AbstractServiceTest {
         AuctionRequest auctionRequest = new AuctionRequest();
         auctionRequest.setTitle("Vintage Watch");
         auctionRequest.setDescription("A rare vintage wristwatch");
-        auctionRequest.setStartingPrice(Double.valueOf("100.00"));
+        auctionRequest.setStartingPrice(Money.of("100.00"));
         auctionRequest.setExpirationTime(LocalDateTime.now().plusDays(3));
 
         // When
@@ -73,9 +80,9 @@ class AuctionServiceTest extends AbstractServiceTest {
         Auction auction = new Auction();
         auction.setTitle("Title 1");
         auction.setDescription("Description 1");
-        auction.setStartingPrice(100.00);
+        auction.setStartingPrice(Money.of("100.00"));
         auction.setExpirationTime(LocalDateTime.now().plusDays(3));
-        auction.setHighestBid(150.00);
+        auction.setHighestBid(Money.of("150.00"));
         auction.setStatus("OPEN");
         final Auction savedAuction = auctionRepository.save(auction);
 
@@ -99,7 +106,7 @@ class AuctionServiceTest extends AbstractServiceTest {
         Auction auction = new Auction();
         auction.setTitle("Title 1");
         auction.setDescription("Description 1");
-        auction.setStartingPrice(100.00);
+        auction.setStartingPrice(Money.of("100.00"));
         auction.setExpirationTime(LocalDateTime.now().plusDays(3));
         auction.setStatus("OPEN");
         auction.setHighestBid(null);
@@ -108,7 +115,7 @@ class AuctionServiceTest extends AbstractServiceTest {
         AuctionUpdateRequest auctionUpdateRequest = new AuctionUpdateRequest();
         auctionUpdateRequest.setTitle("Updated Title");
         auctionUpdateRequest.setDescription("Updated Description");
-        auctionUpdateRequest.setStartingPrice(888.99);
+        auctionUpdateRequest.setStartingPrice(Money.of("888.99"));
         auctionUpdateRequest.setExpirationTime(LocalDateTime.of(2025, 11, 12, 13, 15));
         auctionUpdateRequest.setStatus("CLOSED");
 
@@ -120,7 +127,7 @@ class AuctionServiceTest extends AbstractServiceTest {
         assertNotNull(updatedAuctionResponse);
         assertEquals("Updated Title", updatedAuctionResponse.getTitle());
         assertEquals("Updated Description", updatedAuctionResponse.getDescription());
-        assertEquals(888.99, updatedAuctionResponse.getStartingPrice());
+        assertEquals(Money.of("888.99"), updatedAuctionResponse.getStartingPrice());
         assertEquals(LocalDateTime.of(2025, 11, 12, 13, 15), updatedAuctionResponse.getExpirationTime());
         assertEquals("CLOSED", updatedAuctionResponse.getStatus());
     }
@@ -131,7 +138,7 @@ class AuctionServiceTest extends AbstractServiceTest {
         Auction auction1 = new Auction();
         auction1.setTitle("Title 1");
         auction1.setDescription("Description 1");
-        auction1.setStartingPrice(100.00);
+        auction1.setStartingPrice(Money.of("100.00"));
         auction1.setExpirationTime(LocalDateTime.now().plusDays(3));
         auction1.setStatus("OPEN");
         auctionRepository.save(auction1);
@@ -139,7 +146,7 @@ class AuctionServiceTest extends AbstractServiceTest {
         Auction auction2 = new Auction();
         auction2.setTitle("Title 2");
         auction2.setDescription("Description 2");
-        auction2.setStartingPrice(200.00);
+        auction2.setStartingPrice(Money.of("200.00"));
         auction2.setExpirationTime(LocalDateTime.now().plusDays(5));
         auction2.setStatus("OPEN");
         auctionRepository.save(auction2);
@@ -147,7 +154,7 @@ class AuctionServiceTest extends AbstractServiceTest {
         Auction auction3 = new Auction();
         auction3.setTitle("Title 3");
         auction3.setDescription("Description 3");
-        auction3.setStartingPrice(300.00);
+        auction3.setStartingPrice(Money.of("300.00"));
         auction3.setExpirationTime(LocalDateTime.now().plusDays(7));
         auction3.setStatus("OPEN");
         auctionRepository.save(auction3);
@@ -161,4 +168,127 @@ class AuctionServiceTest extends AbstractServiceTest {
         assertEquals(3, auctionPage.getTotalElements());
     }
 
+    @Test
+    void testGetAllAuctions_shouldFilterAndSortByHighestPrice() {
+        // Given
+        saveAuction("Vase", "50.00", LocalDateTime.now().plusMinutes(30));
+        Auction expensive = saveAuction("Vase, Ming", "400.00", LocalDateTime.now().plusMinutes(45));
+        Auction outbid = saveAuction("Vase, Qing", "150.00", LocalDateTime.now().plusMinutes(20));
+        outbid.setHighestBid(Money.of("450.00"));
+        auctionRepository.save(outbid);
+        saveAuction("Vase, Tang", "200.00", LocalDateTime.now().plusDays(2));
+        saveAuction("Lamp", "200.00", LocalDateTime.now().plusMinutes(10));
+
+        AuctionSearchRequest search = new AuctionSearchRequest();
+        search.setStatus("OPEN");
+        search.setExpiresBefore(LocalDateTime.now().plusHours(1));
+        search.setMinPrice(Money.of("100.00"));
+        search.setMaxPrice(Money.of("500.00"));
+        search.setTitlePrefix("Vase");
+        search.setSort(AuctionSort.HIGHEST_PRICE);
+
+        // When
+        Page<AuctionStatusResponse> auctionPage = auctionService.getAllAuctions(0, 10, search);
+
+        // Then
+        assertEquals(List.of(outbid.getAuctionId(), expensive.getAuctionId()),
+                auctionPage.getContent().stream().map(AuctionStatusResponse::getAuctionId).toList());
+        assertEquals(2, auctionPage.getTotalElements());
+        assertEquals(Money.of("450.00"), auctionPage.getContent().get(0).getHighestBid());
+    }
+
+    @Test
+    void testGetAllAuctions_shouldSortByEndingSoon() {
+        // Given
+        Auction later = saveAuction("Later", "100.00", LocalDateTime.now().plusDays(2));
+        Auction sooner = saveAuction("Sooner", "100.00", LocalDateTime.now().plusHours(1));
+        AuctionSearchRequest search = new AuctionSearchRequest();
+        search.setSort(AuctionSort.ENDING_SOON);
+
+        // When
+        Page<AuctionStatusResponse> auctionPage = auctionService.getAllAuctions(0, 10, search);
+
+        // Then
+        assertEquals(List.of(sooner.getAuctionId(), later.getAuctionId()),
+                auctionPage.getContent().stream().map(AuctionStatusResponse::getAuctionId).toList());
+    }
+
+    @Test
+    void testGetAuctionsByCursor_shouldWalkAllAuctionsOnce() {
+        // Given
+        List<Long> auctionIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Auction auction = new Auction();
+            auction.setTitle("Title " + i);
+            auction.setDescription("Description " + i);
+            auction.setStartingPrice(Money.of("100.00"));
+            auction.setExpirationTime(LocalDateTime.now().plusDays(i));
+            auction.setStatus("OPEN");
+            auctionIds.add(auctionRepository.save(auction).getAuctionId());
+        }
+
+        // When
+        List<Long> listedIds = new ArrayList<>();
+        AuctionSliceResponse slice = auctionService.getAuctionsByCursor(null, 2, false, new AuctionSearchRequest());
+        listedIds.addAll(slice.getAuctions().stream().map(AuctionStatusResponse::getAuctionId).toList());
+        while (slice.getNextCursor() != null) {
+            assertNull(slice.getTotalElements());
+            slice = auctionService.getAuctionsByCursor(slice.getNextCursor(), 2, false, new AuctionSearchRequest());
+            listedIds.addAll(slice.getAuctions().stream().map(AuctionStatusResponse::getAuctionId).toList());
+        }
+
+        // Then
+        assertEquals(auctionIds, listedIds);
+    }
+
+    @Test
+    void testGetAuctionsByCursor_shouldCountOnlyWhenRequested() {
+        // Given
+        Auction auction = new Auction();
+        auction.setTitle("Title");
+        auction.setDescription("Description");
+        auction.setStartingPrice(Money.of("100.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(1));
+        auction.setStatus("OPEN");
+        auctionRepository.save(auction);
+
+        // When
+        AuctionSliceResponse slice = auctionService.getAuctionsByCursor("", 10, true, new AuctionSearchRequest());
+
+        // Then
+        assertEquals(1, slice.getAuctions().size());
+        assertEquals(1L, slice.getTotalElements());
+        assertNull(slice.getNextCursor());
+    }
+
+    @Test
+    void testGetAuctionsByCursor_shouldRejectInvalidCursor() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> auctionService.getAuctionsByCursor("not a cursor", 10, false, new AuctionSearchRequest()));
+    }
+
+    @Test
+    void testGetAuctionsByCursor_shouldRejectFilterAndSortOrder() {
+        // Given
+        AuctionSearchRequest filtered = new AuctionSearchRequest();
+        filtered.setStatus("OPEN");
+        AuctionSearchRequest sorted = new AuctionSearchRequest();
+        sorted.setSort(AuctionSort.ENDING_SOON);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> auctionService.getAuctionsByCursor("", 10, false, filtered));
+        assertThrows(IllegalArgumentException.class, () -> auctionService.getAuctionsByCursor("", 10, false, sorted));
+    }
+
+    private Auction saveAuction(String title, String startingPrice, LocalDateTime expirationTime) {
+        Auction auction = new Auction();
+        auction.setTitle(title);
+        auction.setDescription("Description of " + title);
+        auction.setStartingPrice(Money.of(startingPrice));
+        auction.setExpirationTime(expirationTime);
+        auction.setStatus("OPEN");
+        return auctionRepository.save(auction);
+    }
+
 }
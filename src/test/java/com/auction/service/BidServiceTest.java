@@ -7,6 +7,7 @@ import com.auction.exception.AuctionTimeExpiredException;
 import com.auction.exception.InvalidBidException;
 import com.auction.exception.ResourceNotFoundException;
 import com.auction.model.Auction;
+import com.auction.model.Money;
 import com.auction.model.Role;
 import com.auction.model.User;
 import com.auction.repository.AuctionRepository;
@@ -64,7 +65,7 @@ class BidServiceTest extends AbstractServiceTest {
         auction = new Auction();
         auction.setTitle("Vintage Car");
         auction.setDescription("A classic vintage car");
-        auction.setStartingPrice(10000.00);
+        auction.setStartingPrice(Money.of("10000.00"));
         auction.setExpirationTime(LocalDateTime.now().plusDays(3));
         auction.setStatus("OPEN");
         auctionRepository.save(auction);
@@ -78,7 +79,7 @@ class BidServiceTest extends AbstractServiceTest {
         userRepository.save(user);
 
         bidRequest = new BidRequest();
-        bidRequest.setAmount(12000.00);
+        bidRequest.setAmount(Money.of("12000.00"));
 
         // Mock the authentication process
         UserDetails userDetails = Mockito.mock(UserDetails.class);
@@ -132,11 +133,11 @@ class BidServiceTest extends AbstractServiceTest {
     void testPlaceBid_shouldThrowExceptionWhenBidAmountIsLowerThanHighestBid() {
         // Given
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        auction.setHighestBid(15000.00);
+        auction.setHighestBid(Money.of("15000.00"));
         auctionRepository.save(auction);
 
         // When & Then
-        bidRequest.setAmount(14000.00);
+        bidRequest.setAmount(Money.of("14000.00"));
         assertThrowsExactly(InvalidBidException.class, () -> bidService.placeBid(authentication, auction.getAuctionId(), bidRequest));
     }
 
@@ -0,0 +1,135 @@
+package com.auction.service;
+
+import com.auction.api.model.bid.BidRequest;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.api.model.bid.BidTicketResponse;
+import com.auction.engine.AuctionWatermarks;
+import com.auction.exception.BidQueueFullException;
+import com.auction.exception.InvalidBidException;
+import com.auction.exception.ResourceNotFoundException;
+import com.auction.model.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BidTicketServiceTest {
+
+    private static final Long AUCTION_ID = 9L;
+
+    private BidIdempotencyService bidIdempotencyService;
+    private BidTicketService bidTicketService;
+    private Authentication authentication;
+    private BidRequest bidRequest;
+
+    @BeforeEach
+    void setUp() {
+        bidIdempotencyService = mock(BidIdempotencyService.class);
+        bidTicketService = new BidTicketService(bidIdempotencyService, new AuctionWatermarks(true), true, 1, 1, 10, 3);
+        authentication = new UsernamePasswordAuthenticationToken("john_doe", "password123");
+        bidRequest = new BidRequest();
+        bidRequest.setAmount(Money.of("250.00"));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bidTicketService.stop();
+    }
+
+    @Test
+    void testSubmitBid_shouldReportOutcomeUnderTicket() throws InterruptedException {
+        // Given
+        BidResponse bidResponse = new BidResponse();
+        bidResponse.setBidId(111L);
+        CountDownLatch placed = new CountDownLatch(1);
+        when(bidIdempotencyService.placeBid(authentication, AUCTION_ID, bidRequest, null)).thenAnswer(invocation -> {
+            placed.countDown();
+            return bidResponse;
+        });
+
+        // When
+        BidTicketResponse ticket = bidTicketService.submitBid(authentication, AUCTION_ID, bidRequest, null);
+        placed.await(5, TimeUnit.SECONDS);
+        bidTicketService.stop();
+
+        // Then
+        BidTicketResponse outcome = bidTicketService.getTicket(authentication, AUCTION_ID, ticket.getTicketId());
+        assertEquals(BidTicketResponse.Status.ACCEPTED, outcome.getStatus());
+        assertEquals(111L, outcome.getBid().getBidId());
+    }
+
+    @Test
+    void testSubmitBid_shouldReportRejection() throws InterruptedException {
+        // Given
+        when(bidIdempotencyService.placeBid(any(), eq(AUCTION_ID), any(), any()))
+                .thenThrow(new InvalidBidException("Bid must be higher than the current highest bid"));
+
+        // When
+        BidTicketResponse ticket = bidTicketService.submitBid(authentication, AUCTION_ID, bidRequest, null);
+        bidTicketService.stop();
+
+        // Then
+        BidTicketResponse outcome = bidTicketService.getTicket(authentication, AUCTION_ID, ticket.getTicketId());
+        assertEquals(BidTicketResponse.Status.REJECTED, outcome.getStatus());
+        assertEquals("Bid must be higher than the current highest bid", outcome.getMessage());
+    }
+
+    @Test
+    void testSubmitBid_shouldHideMessageOfUnexpectedFailure() throws InterruptedException {
+        // Given
+        when(bidIdempotencyService.placeBid(any(), eq(AUCTION_ID), any(), any()))
+                .thenThrow(new IllegalStateException("could not execute statement [UPDATE auction SET highest_bid = ?]"));
+
+        // When
+        BidTicketResponse ticket = bidTicketService.submitBid(authentication, AUCTION_ID, bidRequest, null);
+        bidTicketService.stop();
+
+        // Then
+        BidTicketResponse outcome = bidTicketService.getTicket(authentication, AUCTION_ID, ticket.getTicketId());
+        assertEquals(BidTicketResponse.Status.REJECTED, outcome.getStatus());
+        assertEquals("An unexpected error occurred. Please try again later.", outcome.getMessage());
+    }
+
+    @Test
+    void testSubmitBid_shouldTurnBidAwayWhenQueueIsFull() throws InterruptedException {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bidIdempotencyService.placeBid(any(), eq(AUCTION_ID), any(), any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return new BidResponse();
+        });
+        bidTicketService.submitBid(authentication, AUCTION_ID, bidRequest, null);
+        running.await(5, TimeUnit.SECONDS);
+        bidTicketService.submitBid(authentication, AUCTION_ID, bidRequest, null);
+
+        // When & Then
+        BidQueueFullException exception = assertThrowsExactly(BidQueueFullException.class,
+                () -> bidTicketService.submitBid(authentication, AUCTION_ID, bidRequest, null));
+        assertEquals(3, exception.getRetryAfterSeconds());
+        release.countDown();
+    }
+
+    @Test
+    void testGetTicket_shouldNotShowTicketToOtherUsers() {
+        // Given
+        BidTicketResponse ticket = bidTicketService.submitBid(authentication, AUCTION_ID, bidRequest, null);
+        Authentication otherUser = new UsernamePasswordAuthenticationToken("jane_doe", "password123");
+
+        // When & Then
+        assertThrowsExactly(ResourceNotFoundException.class,
+                () -> bidTicketService.getTicket(otherUser, AUCTION_ID, ticket.getTicketId()));
+    }
+}
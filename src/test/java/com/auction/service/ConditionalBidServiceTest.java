@@ -0,0 +1,118 @@
+package com.auction.service;
+
+import com.auction.api.model.bid.BidRequest;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.exception.AuctionClosedException;
+import com.auction.exception.InvalidBidException;
+import com.auction.exception.ResourceNotFoundException;
+import com.auction.model.Auction;
+import com.auction.model.Money;
+import com.auction.model.User;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+@TestPropertySource(properties = "auction.bid.engine=conditional")
+class ConditionalBidServiceTest extends AbstractServiceTest {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BidService bidService;
+
+    private Auction auction;
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        auction = new Auction();
+        auction.setTitle("Vintage Car");
+        auction.setDescription("A classic vintage car");
+        auction.setStartingPrice(Money.of("10000.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(3));
+        auction.setStatus("OPEN");
+        auctionRepository.save(auction);
+
+        user = new User();
+        user.setUsername("johndoe");
+        user.setPassword("password123");
+        user.setEmail("johndoe@example.com");
+        user.setFullName("John Doe");
+        userRepository.save(user);
+
+        UserDetails userDetails = Mockito.mock(UserDetails.class);
+        Mockito.when(userDetails.getUsername()).thenReturn(user.getUsername());
+        authentication = new UsernamePasswordAuthenticationToken(userDetails, user.getPassword());
+    }
+
+    @Test
+    void testPlaceBid_shouldUpdateAuctionHighestBid() {
+        // When
+        BidResponse bidResponse = bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00"));
+
+        // Then
+        assertNotNull(bidResponse.getBidId());
+        assertEquals(auction.getTitle(), bidResponse.getAuctionTitle());
+        Auction updatedAuction = auctionRepository.findByAuctionId(auction.getAuctionId()).orElseThrow(RuntimeException::new);
+        assertEquals(Money.of("12000.00"), updatedAuction.getHighestBid());
+        assertEquals(user.getUserId(), updatedAuction.getHighestBidUser().getUserId());
+    }
+
+    @Test
+    void testPlaceBid_shouldThrowExceptionWhenBidAmountIsNotHigherThanHighestBid() {
+        // Given
+        bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00"));
+
+        // When & Then
+        assertThrowsExactly(InvalidBidException.class,
+                () -> bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00")));
+    }
+
+    @Test
+    void testPlaceBid_shouldThrowExceptionWhenBidAmountIsLowerThanStartingPrice() {
+        assertThrowsExactly(InvalidBidException.class,
+                () -> bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("9000.00")));
+    }
+
+    @Test
+    void testPlaceBid_shouldThrowExceptionWhenAuctionIsClosed() {
+        // Given
+        auction.setStatus("CLOSED");
+        auctionRepository.save(auction);
+
+        // When & Then
+        assertThrowsExactly(AuctionClosedException.class,
+                () -> bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00")));
+    }
+
+    @Test
+    void testPlaceBid_shouldThrowExceptionWhenAuctionNotFound() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> bidService.placeBid(authentication, 999L, bidRequest("12000.00")));
+    }
+
+    private BidRequest bidRequest(String amount) {
+        BidRequest bidRequest = new BidRequest();
+        bidRequest.setAmount(Money.of(amount));
+        return bidRequest;
+    }
+}
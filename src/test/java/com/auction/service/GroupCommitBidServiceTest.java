@@ -0,0 +1,196 @@
+package com.auction.service;
+
+import com.auction.api.model.bid.BidRequest;
+import com.auction.api.model.bid.BidResponse;
+import com.auction.engine.BidGroupCommitter;
+import com.auction.exception.AuctionClosedException;
+import com.auction.exception.InvalidBidException;
+import com.auction.exception.ResourceNotFoundException;
+import com.auction.model.Auction;
+import com.auction.model.Money;
+import com.auction.model.User;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Not transactional, the bids are written by the committer's own thread and have to see the auctions and users.
+ * A batch of two bids is committed right away, a single bid after waiting 200 ms for a second one.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "auction.bid.engine=group-commit",
+        "auction.bid.group-commit.max-batch-size=2",
+        "auction.bid.group-commit.max-wait-micros=200000"})
+class GroupCommitBidServiceTest {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private BidGroupCommitter bidGroupCommitter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Auction auction;
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        auction = new Auction();
+        auction.setTitle("Vintage Car");
+        auction.setDescription("A classic vintage car");
+        auction.setStartingPrice(Money.of("10000.00"));
+        auction.setExpirationTime(LocalDateTime.now().plusDays(3));
+        auction.setStatus("OPEN");
+        auctionRepository.save(auction);
+
+        user = new User();
+        user.setUsername("group_commit_bidder");
+        user.setPassword("password123");
+        user.setEmail("group_commit_bidder@example.com");
+        user.setFullName("Group Commit Bidder");
+        userRepository.save(user);
+
+        UserDetails userDetails = Mockito.mock(UserDetails.class);
+        Mockito.when(userDetails.getUsername()).thenReturn(user.getUsername());
+        authentication = new UsernamePasswordAuthenticationToken(userDetails, user.getPassword());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox WHERE aggregate_id = ?", auction.getAuctionId());
+        jdbcTemplate.update("DELETE FROM bid WHERE auction_id = ?", auction.getAuctionId());
+        jdbcTemplate.update("DELETE FROM auction WHERE auction_id = ?", auction.getAuctionId());
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", user.getUserId());
+    }
+
+    @Test
+    void testPlaceBid_shouldUpdateAuctionHighestBid() {
+        // When
+        BidResponse bidResponse = bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00"));
+
+        // Then
+        assertNotNull(bidResponse.getBidId());
+        assertEquals(auction.getTitle(), bidResponse.getAuctionTitle());
+        Auction updatedAuction = auctionRepository.findByAuctionId(auction.getAuctionId()).orElseThrow(RuntimeException::new);
+        assertEquals(Money.of("12000.00"), updatedAuction.getHighestBid());
+        assertEquals(1, countBids());
+        assertEquals(1, countOutboxEvents());
+    }
+
+    @Test
+    void testPlaceBid_shouldExplainRejectionOfBidNotHigherThanHighestBid() {
+        // Given
+        bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00"));
+
+        // When & Then
+        assertThrowsExactly(InvalidBidException.class,
+                () -> bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00")));
+        assertThrowsExactly(InvalidBidException.class,
+                () -> bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("9000.00")));
+        assertEquals(1, countBids());
+    }
+
+    @Test
+    void testPlaceBid_shouldExplainRejectionOnClosedAuction() {
+        // Given
+        auction.setStatus("CLOSED");
+        auctionRepository.save(auction);
+
+        // When & Then
+        assertThrowsExactly(AuctionClosedException.class,
+                () -> bidService.placeBid(authentication, auction.getAuctionId(), bidRequest("12000.00")));
+    }
+
+    @Test
+    void testPlaceBid_shouldThrowExceptionWhenAuctionNotFound() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> bidService.placeBid(authentication, 999L, bidRequest("12000.00")));
+    }
+
+    @Test
+    void testPlaceBid_shouldAppendOutboxEventOfEveryAcceptedBidInTheBatch() {
+        // When
+        CompletableFuture<?> first = CompletableFuture.supplyAsync(
+                () -> bidGroupCommitter.placeBid(auction.getAuctionId(), user, 1_200_000L));
+        CompletableFuture<?> second = CompletableFuture.supplyAsync(
+                () -> bidGroupCommitter.placeBid(auction.getAuctionId(), user, 1_300_000L));
+        CompletableFuture.allOf(first, second).join();
+
+        // Then, the lower bid loses if it is decided after the higher one
+        assertTrue(countBids() > 0);
+        assertEquals(countBids(), countOutboxEvents());
+    }
+
+    @Test
+    void testPlaceBid_shouldFailWholeBatchWhenOneBidFails() {
+        // Given
+        User unknownUser = new User();
+        unknownUser.setUserId(999_999L);
+        unknownUser.setUsername("unknown");
+
+        // When
+        CompletableFuture<?> valid = CompletableFuture.supplyAsync(
+                () -> bidGroupCommitter.placeBid(auction.getAuctionId(), user, 1_200_000L));
+        CompletableFuture<?> failing = CompletableFuture.supplyAsync(
+                () -> bidGroupCommitter.placeBid(auction.getAuctionId(), unknownUser, 1_300_000L));
+
+        // Then
+        assertInstanceOf(DataAccessException.class, assertThrows(CompletionException.class, valid::join).getCause());
+        assertInstanceOf(DataAccessException.class, assertThrows(CompletionException.class, failing::join).getCause());
+        assertNull(auctionRepository.findByAuctionId(auction.getAuctionId()).orElseThrow().getHighestBid());
+        assertEquals(0, countBids());
+        assertEquals(0, countOutboxEvents());
+    }
+
+    private int countBids() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bid WHERE auction_id = ?", Integer.class,
+                auction.getAuctionId());
+    }
+
+    private int countOutboxEvents() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox WHERE event_type = 'BID_ACCEPTED' AND aggregate_id = ?", Integer.class,
+                auction.getAuctionId());
+    }
+
+    private BidRequest bidRequest(String amount) {
+        BidRequest bidRequest = new BidRequest();
+        bidRequest.setAmount(Money.of(amount));
+        return bidRequest;
+    }
+}
@@ -4,6 +4,7 @@ import com.auction.api.model.bid.BidRequest;
 import com.auction.api.model.bid.BidResponse;
 import com.auction.exception.InvalidBidException;
 import com.auction.model.Auction;
+import com.auction.model.Money;
 import com.auction.model.Role;
 import com.auction.model.User;
 import com.auction.repository.AuctionRepository;
@@ -70,7 +71,7 @@ class OptimisticLockTest extends AbstractServiceTest {
         userRepository.save(user);
 
         bidRequest = new BidRequest();
-        bidRequest.setAmount(12000.00);
+        bidRequest.setAmount(Money.of("12000.00"));
 
         UserDetails userDetails = Mockito.mock(UserDetails.class);
         Mockito.when(userDetails.getUsername()).thenReturn(user.getUsername());
@@ -85,7 +86,8 @@ class OptimisticLockTest extends AbstractServiceTest {
 
         when(auctionRepository.findById(anyLong())).thenReturn(Optional.of(auction));
         when(auction.getAuctionId()).thenReturn(999L);
-        when(auction.getHighestBid()).thenReturn(10.00);
+        when(auction.getHighestBid()).thenReturn(Money.of("10.00"));
+        when(auction.getStartingPrice()).thenReturn(Money.of("5.00"));
         when(auction.getHighestBidUser()).thenReturn(user);
         when(auction.getExpirationTime()).thenReturn(LocalDateTime.now().plusDays(3));
         when(auction.getStatus()).thenReturn("OPEN");
@@ -110,7 +112,8 @@ class OptimisticLockTest extends AbstractServiceTest {
 
         when(auctionRepository.findById(anyLong())).thenReturn(Optional.of(auction));
         when(auction.getAuctionId()).thenReturn(999L);
-        when(auction.getHighestBid()).thenReturn(10.00);
+        when(auction.getHighestBid()).thenReturn(Money.of("10.00"));
+        when(auction.getStartingPrice()).thenReturn(Money.of("5.00"));
         when(auction.getHighestBidUser()).thenReturn(user);
         when(auction.getExpirationTime()).thenReturn(LocalDateTime.now().plusDays(3));
         when(auction.getStatus()).thenReturn("OPEN");
@@ -134,7 +137,8 @@ class OptimisticLockTest extends AbstractServiceTest {
 
         when(auctionRepository.findById(anyLong())).thenReturn(Optional.of(auction));
         when(auction.getAuctionId()).thenReturn(999L);
-        when(auction.getHighestBid()).thenReturn(10.00);
+        when(auction.getHighestBid()).thenReturn(Money.of("10.00"));
+        when(auction.getStartingPrice()).thenReturn(Money.of("5.00"));
         when(auction.getHighestBidUser()).thenReturn(user);
         when(auction.getExpirationTime()).thenReturn(LocalDateTime.now().plusDays(3));
         when(auction.getStatus()).thenReturn("OPEN");
@@ -158,12 +162,13 @@ class OptimisticLockTest extends AbstractServiceTest {
 
         when(auctionRepository.findById(anyLong())).thenReturn(Optional.of(auction));
         when(auction.getAuctionId()).thenReturn(999L);
-        when(auction.getHighestBid()).thenReturn(10000.00);
+        when(auction.getHighestBid()).thenReturn(Money.of("10000.00"));
+        when(auction.getStartingPrice()).thenReturn(Money.of("5.00"));
         when(auction.getExpirationTime()).thenReturn(LocalDateTime.now().plusDays(3));
         when(auction.getStatus()).thenReturn("OPEN");
 
         // Bid amount lower than current highest bid
-        bidRequest.setAmount(5000.00);
+        bidRequest.setAmount(Money.of("5000.00"));
 
         // When & Then
         assertThrowsExactly(InvalidBidException.class,